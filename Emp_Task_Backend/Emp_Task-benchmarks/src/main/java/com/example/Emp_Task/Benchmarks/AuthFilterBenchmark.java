@@ -0,0 +1,93 @@
+package com.example.Emp_Task.Benchmarks;
+
+import com.example.Emp_Task.Security.JWT;
+import com.example.Emp_Task.Security.JwtAuthFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// JwtAuthFilter per request, with the verified-token cache on (10000) and off (0).
+// A few hundred employees send their own token over and over, as in the load scenario,
+// so with the cache on most checks skip parsing and the signature check.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class AuthFilterBenchmark {
+
+    private static final int TOKENS = 512;
+    private static final FilterChain CHAIN = (request, response) -> {
+    };
+
+    @Param({"0", "10000"})
+    private int cacheSize;
+
+    private JwtAuthFilter filter;
+    private String[] headers;
+
+    // one request/response pair per thread, reused; only the header changes
+    @State(Scope.Thread)
+    public static class Exchange {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks/employee/1");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        int next;
+    }
+
+    @Setup
+    public void setUp() {
+        JWT jwt = new JWT(new SimpleMeterRegistry(), cacheSize);
+        filter = new JwtAuthFilter(new SimpleMeterRegistry(), 100, List.of());
+        ReflectionTestUtils.setField(filter, "jwtUtil", jwt);
+        headers = new String[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            headers[i] = "Bearer " + jwt.generateToken(i + 1, "Employee " + (i + 1), SyntheticData.email(i + 1));
+        }
+    }
+
+    @Benchmark
+    public int authenticated(Exchange exchange) throws Exception {
+        exchange.next = (exchange.next + 1) & (TOKENS - 1);
+        exchange.request.addHeader("Authorization", headers[exchange.next]);
+        try {
+            return filter(exchange);
+        } finally {
+            exchange.request.removeHeader("Authorization");
+        }
+    }
+
+    // a missing header is rejected before any token work
+    @Benchmark
+    public int rejected(Exchange exchange) throws Exception {
+        exchange.response.reset();
+        return filter(exchange);
+    }
+
+    private int filter(Exchange exchange) throws Exception {
+        // OncePerRequestFilter marks the request as filtered; clear it so every call runs the filter
+        exchange.request.clearAttributes();
+        filter.doFilter(exchange.request, exchange.response, CHAIN);
+        SecurityContextHolder.clearContext();
+        return exchange.response.getStatus();
+    }
+}
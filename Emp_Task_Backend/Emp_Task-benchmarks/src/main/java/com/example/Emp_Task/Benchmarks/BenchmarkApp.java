@@ -0,0 +1,71 @@
+package com.example.Emp_Task.Benchmarks;
+
+import com.example.Emp_Task.EmpTaskApplication;
+import com.example.Emp_Task.Security.PasswordHashingConfig;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.flyway.autoconfigure.FlywayMigrationStrategy;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Starts the whole app on a random port against a private in-memory H2 database (MySQL
+ * mode, like the tests), without Redis, and seeded with SyntheticData.
+ *
+ * Seeding runs right after the Flyway migration, before Hibernate and the startup
+ * listeners, so the search index and the deadline scheduler load the seeded rows.
+ *
+ * Extra "--key=value" arguments replace the default for the same key, so a benchmark or
+ * load run can flip one setting (bcrypt cost, log levels, virtual threads) for an A/B.
+ */
+public final class BenchmarkApp {
+
+    private BenchmarkApp() {
+    }
+
+    public static ConfigurableApplicationContext start(SyntheticData data, String... extraArgs) {
+        Map<String, String> args = new LinkedHashMap<>();
+        args.put("spring.datasource.url", "jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        args.put("spring.datasource.username", "sa");
+        args.put("spring.datasource.password", "");
+        args.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        args.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        // the production value is Connector/J's streaming marker, which H2 rejects
+        args.put("tasks.export.fetch-size", "500");
+        args.put("cluster.redis.enabled", "false");
+        // cost 4 keeps seeding and sign-in cheap unless a benchmark is measuring the cost itself
+        args.put("auth.password.bcrypt-strength", "4");
+        args.put("server.port", "0");
+        // the load scenario sends far more per employee than the production budgets allow
+        args.put("ratelimit.enabled", "false");
+        // the console appender would otherwise compete with the code being measured
+        args.put("logging.level.root", "WARN");
+        args.put("logging.level.com.example.Emp_Task", "WARN");
+        for (String arg : extraArgs) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("expected --key=value, got " + arg);
+            }
+            args.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        // every seeded employee signs in with SyntheticData.PASSWORD, hashed at the configured cost
+        int cost = Integer.parseInt(args.get("auth.password.bcrypt-strength"));
+        String passwordHash = "{" + PasswordHashingConfig.BCRYPT + "}" + new BCryptPasswordEncoder(cost).encode(SyntheticData.PASSWORD);
+        FlywayMigrationStrategy migrateAndSeed = flyway -> {
+            flyway.migrate();
+            DataSeeder.seed(new JdbcTemplate(flyway.getConfiguration().getDataSource()), data, passwordHash);
+        };
+
+        List<String> commandLine = new ArrayList<>();
+        args.forEach((key, value) -> commandLine.add("--" + key + "=" + value));
+        return new SpringApplicationBuilder(EmpTaskApplication.class)
+                .initializers(context -> context.getBeanFactory().registerSingleton("migrateAndSeed", migrateAndSeed))
+                .run(commandLine.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.Emp_Task.Benchmarks;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Writes SyntheticData straight into a freshly migrated embedded database, in JDBC batches.
+public final class DataSeeder {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private DataSeeder() {
+    }
+
+    public static void seed(JdbcTemplate jdbc, SyntheticData data, String passwordHash) {
+        List<Object[]> employees = new ArrayList<>(data.employeeCount());
+        for (SyntheticData.SeedEmployee e : data.employees()) {
+            employees.add(new Object[]{e.id(), e.name(), e.email(), passwordHash, e.phone()});
+        }
+        jdbc.batchUpdate("INSERT INTO employees (id, name, email, password, phone) VALUES (?, ?, ?, ?, ?)", employees);
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        data.forEachTask(t -> {
+            batch.add(new Object[]{t.id(), t.description(), t.status(), timestamp(t.start()), timestamp(t.end()),
+                    timestamp(t.completedAt()), t.employeeId()});
+            if (batch.size() == BATCH_SIZE) {
+                insertTasks(jdbc, batch);
+                batch.clear();
+            }
+        });
+        insertTasks(jdbc, batch);
+
+        // explicit ids above: move both generators past them, as V3 does for existing rows
+        jdbc.update("UPDATE id_generators SET gen_value = ? WHERE gen_name = 'tasks'", data.taskCount() + 100L);
+        jdbc.execute("ALTER TABLE employees ALTER COLUMN id RESTART WITH " + (data.employeeCount() + 1));
+        jdbc.execute("ANALYZE");
+    }
+
+    private static void insertTasks(JdbcTemplate jdbc, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbc.batchUpdate("INSERT INTO tasks (id, description, status, start_date_time, end_date_time, completed_at, "
+                    + "version, employee_id) VALUES (?, ?, ?, ?, ?, ?, 0, ?)", rows);
+        }
+    }
+
+    private static Timestamp timestamp(LocalDateTime time) {
+        return time == null ? null : Timestamp.valueOf(time);
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.Emp_Task.Benchmarks;
+
+import com.example.Emp_Task.Security.JWT;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Closed-loop HTTP load on the TaskController endpoints: a fixed number of users, each
+ * sending its next request as soon as the previous one returns, against the app
+ * started by BenchmarkApp.
+ *
+ * Prints throughput and latency percentiles per endpoint and writes them to a JSON
+ * report; keep the reports of two commits (label=...) to compare them.
+ *
+ * Arguments, all optional: users=16 warmup=PT10S duration=PT60S employees=500
+ * tasks=50000 seed=42 label=local report=load-report.json
+ *
+ * Arguments starting with "--" are passed to the app as properties, for A/B runs of
+ * one setting, e.g. --logging.level.com.example.Emp_Task=DEBUG. Platform vs virtual
+ * threads is label=platform against label=virtual --spring.profiles.active=virtual-threads
+ * (Java 21+ runtime); the profile also raises the connection pool to 40, so give the
+ * platform run --spring.datasource.hikari.maximum-pool-size=40 to compare threads alone.
+ * The report records which request threads actually served the run.
+ */
+public final class HttpLoadScenario {
+
+    // request mix: mostly list reads, some task creation
+    private record Endpoint(String name, int weight, boolean write, IntFunction<String> path) {
+    }
+
+    private static final List<Endpoint> MIX = List.of(
+            new Endpoint("GET /tasks/employee/{empId}", 30, false, emp -> "/tasks/employee/" + emp),
+            new Endpoint("GET /tasks/employee/{empId}/page", 20, false, emp -> "/tasks/employee/" + emp + "/page?size=50"),
+            new Endpoint("GET /tasks/pending/{empId}", 15, false, emp -> "/tasks/pending/" + emp),
+            new Endpoint("GET /tasks/completed/{empId}", 10, false, emp -> "/tasks/completed/" + emp),
+            new Endpoint("GET /tasks/stats/{empId}", 10, false, emp -> "/tasks/stats/" + emp),
+            new Endpoint("GET /tasks/calendar/{empId}", 5, false, emp -> "/tasks/calendar/" + emp + "?from="
+                    + SyntheticData.ANCHOR.toLocalDate().minusDays(30) + "&to=" + SyntheticData.ANCHOR.toLocalDate()),
+            new Endpoint("POST /tasks/add/{empId}", 10, true, emp -> "/tasks/add/" + emp)
+    );
+
+    private static final String NEW_TASK = "{\"description\":\"Load test task\",\"startDateTime\":\"%s\",\"endDateTime\":\"%s\"}";
+
+    // one per worker thread, merged at the end
+    private static final class Recorder {
+        final Map<String, Histogram> latencies = new HashMap<>();
+        final Map<String, Long> errors = new HashMap<>();
+
+        void record(String endpoint, long nanos, boolean ok) {
+            latencies.computeIfAbsent(endpoint, e -> new Histogram(TimeUnit.MINUTES.toNanos(1), 3))
+                    .recordValue(Math.min(nanos, TimeUnit.MINUTES.toNanos(1)));
+            if (!ok) {
+                errors.merge(endpoint, 1L, Long::sum);
+            }
+        }
+    }
+
+    public static void main(String[] rawArgs) throws Exception {
+        Map<String, String> args = parse(rawArgs);
+        String[] appArgs = Arrays.stream(rawArgs).filter(arg -> arg.startsWith("--")).toArray(String[]::new);
+        int users = Integer.parseInt(args.getOrDefault("users", "16"));
+        Duration warmup = Duration.parse(args.getOrDefault("warmup", "PT10S"));
+        Duration duration = Duration.parse(args.getOrDefault("duration", "PT60S"));
+        SyntheticData data = new SyntheticData(
+                Long.parseLong(args.getOrDefault("seed", String.valueOf(SyntheticData.DEFAULT_SEED))),
+                Integer.parseInt(args.getOrDefault("employees", "500")),
+                Integer.parseInt(args.getOrDefault("tasks", "50000")));
+
+        try (ConfigurableApplicationContext context = BenchmarkApp.start(data, appArgs)) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            Map<String, Object> server = server(context.getEnvironment());
+            System.out.println("Server: " + server);
+            JWT jwt = context.getBean(JWT.class);
+            Map<Integer, String> tokens = new ConcurrentHashMap<>();
+            IntFunction<String> tokenFor = emp -> tokens.computeIfAbsent(emp,
+                    id -> jwt.generateToken(id, "Employee " + id, SyntheticData.email(id)));
+
+            ExecutorService clientPool = Executors.newFixedThreadPool(Math.max(2, users / 4));
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientPool)
+                    .build();
+
+            long measureFrom = System.nanoTime() + warmup.toNanos();
+            long stopAt = measureFrom + duration.toNanos();
+            int totalWeight = MIX.stream().mapToInt(Endpoint::weight).sum();
+
+            ExecutorService workers = Executors.newFixedThreadPool(users);
+            List<Future<Recorder>> results = new ArrayList<>();
+            for (int u = 0; u < users; u++) {
+                SplittableRandom random = new SplittableRandom(SyntheticData.DEFAULT_SEED + u);
+                results.add(workers.submit(() -> run(client, baseUrl, data, tokenFor, random, totalWeight, measureFrom, stopAt)));
+            }
+
+            Recorder total = new Recorder();
+            for (Future<Recorder> result : results) {
+                Recorder recorder = result.get();
+                recorder.latencies.forEach((endpoint, histogram) ->
+                        total.latencies.computeIfAbsent(endpoint, e -> new Histogram(TimeUnit.MINUTES.toNanos(1), 3)).add(histogram));
+                recorder.errors.forEach((endpoint, count) -> total.errors.merge(endpoint, count, Long::sum));
+            }
+            workers.shutdownNow();
+            clientPool.shutdownNow();
+
+            report(total, duration, users, data, args.getOrDefault("label", "local"), appArgs, server,
+                    new File(args.getOrDefault("report", "load-report.json")));
+        }
+    }
+
+    private static Recorder run(HttpClient client, String baseUrl, SyntheticData data, IntFunction<String> tokenFor,
+                                SplittableRandom random, int totalWeight, long measureFrom, long stopAt) {
+        Recorder recorder = new Recorder();
+        while (System.nanoTime() < stopAt) {
+            int emp = data.pickEmployee(random);
+            Endpoint endpoint = pick(random.nextInt(totalWeight));
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + endpoint.path().apply(emp)))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Authorization", "Bearer " + tokenFor.apply(emp));
+            if (endpoint.write()) {
+                LocalDate day = SyntheticData.ANCHOR.toLocalDate().plusDays(random.nextInt(30));
+                request.header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(String.format(NEW_TASK, day.atTime(9, 0), day.atTime(17, 0))));
+            }
+
+            long start = System.nanoTime();
+            boolean ok;
+            try {
+                HttpResponse<Void> response = client.send(request.build(), HttpResponse.BodyHandlers.discarding());
+                ok = response.statusCode() < 400;
+            } catch (Exception e) {
+                ok = false;
+            }
+            long end = System.nanoTime();
+            if (start >= measureFrom && end <= stopAt) {
+                recorder.record(endpoint.name(), end - start, ok);
+            }
+        }
+        return recorder;
+    }
+
+    // what the A/B runs differ in; the virtual-thread flag is ignored below Java 21
+    private static Map<String, Object> server(Environment environment) {
+        boolean virtual = Threading.VIRTUAL.isActive(environment);
+        if (!virtual && environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            System.out.println("Virtual threads requested but the runtime is Java " + Runtime.version().feature()
+                    + "; requests are served by platform threads");
+        }
+        Map<String, Object> server = new LinkedHashMap<>();
+        server.put("java", Runtime.version().toString());
+        server.put("requestThreads", virtual ? "virtual" : "platform");
+        server.put("profiles", List.of(environment.getActiveProfiles()));
+        server.put("dbPoolSize", environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+        return server;
+    }
+
+    private static Endpoint pick(int roll) {
+        for (Endpoint endpoint : MIX) {
+            roll -= endpoint.weight();
+            if (roll < 0) {
+                return endpoint;
+            }
+        }
+        return MIX.get(MIX.size() - 1);
+    }
+
+    private static void report(Recorder total, Duration duration, int users, SyntheticData data, String label,
+                               String[] appArgs, Map<String, Object> server, File file) throws Exception {
+        Histogram all = new Histogram(TimeUnit.MINUTES.toNanos(1), 3);
+        Map<String, Map<String, Object>> endpoints = new TreeMap<>();
+        total.latencies.forEach((endpoint, histogram) -> {
+            all.add(histogram);
+            endpoints.put(endpoint, summary(histogram, total.errors.getOrDefault(endpoint, 0L), duration));
+        });
+        Map<String, Object> overall = summary(all, total.errors.values().stream().mapToLong(Long::longValue).sum(), duration);
+
+        System.out.printf("%-36s %9s %8s %9s %9s %9s %9s %9s%n", "endpoint", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        endpoints.forEach((endpoint, summary) -> print(endpoint, summary));
+        print("all", overall);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", label);
+        report.put("finishedAt", Instant.now().toString());
+        report.put("users", users);
+        report.put("durationSeconds", duration.toSeconds());
+        report.put("employees", data.employeeCount());
+        report.put("tasks", data.taskCount());
+        report.put("seed", data.seed());
+        report.put("appArgs", List.of(appArgs));
+        report.put("server", server);
+        report.put("all", overall);
+        report.put("endpoints", endpoints);
+        JsonMapper.builder().build().writerWithDefaultPrettyPrinter().writeValue(file, report);
+        System.out.println("Report written to " + file.getAbsolutePath());
+    }
+
+    private static Map<String, Object> summary(Histogram histogram, long errors, Duration duration) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", histogram.getTotalCount());
+        summary.put("errors", errors);
+        summary.put("throughput", histogram.getTotalCount() / (double) duration.toSeconds());
+        summary.put("p50Ms", millis(histogram.getValueAtPercentile(50)));
+        summary.put("p90Ms", millis(histogram.getValueAtPercentile(90)));
+        summary.put("p99Ms", millis(histogram.getValueAtPercentile(99)));
+        summary.put("p999Ms", millis(histogram.getValueAtPercentile(99.9)));
+        summary.put("maxMs", millis(histogram.getMaxValue()));
+        return summary;
+    }
+
+    private static void print(String endpoint, Map<String, Object> s) {
+        System.out.printf("%-36s %9.1f %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n", endpoint, s.get("throughput"), s.get("errors"),
+                s.get("p50Ms"), s.get("p90Ms"), s.get("p99Ms"), s.get("p999Ms"), s.get("maxMs"));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    // scenario key=value pairs; "--" arguments belong to the app
+    private static Map<String, String> parse(String[] rawArgs) {
+        Map<String, String> args = new HashMap<>();
+        for (String arg : rawArgs) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") && eq > 0) {
+                args.put(arg.substring(0, eq), arg.substring(eq + 1));
+            }
+        }
+        return args;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.Emp_Task.Benchmarks;
+
+import com.example.Emp_Task.Security.JWT;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Token issue and check, as JwtAuthFilter and sign-in use them.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final int TOKENS = 1024;
+
+    private JWT jwt;
+    // verified-token cache of size 0: every check parses and verifies the signature
+    private JWT uncachedJwt;
+    private String token;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        jwt = new JWT(new SimpleMeterRegistry(), 10_000);
+        uncachedJwt = new JWT(new SimpleMeterRegistry(), 0);
+        token = jwt.generateToken(1, "Employee 1", SyntheticData.email(1));
+        tokens = new String[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            tokens[i] = jwt.generateToken(i + 1, "Employee " + (i + 1), SyntheticData.email(i + 1));
+        }
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwt.generateToken(1, "Employee 1", SyntheticData.email(1));
+    }
+
+    @Benchmark
+    public Claims validateCachedToken() {
+        return jwt.validateToken(token);
+    }
+
+    @Benchmark
+    public Claims validateUncachedToken() {
+        next = (next + 1) & (TOKENS - 1);
+        return uncachedJwt.validateToken(tokens[next]);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.Emp_Task.Benchmarks;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.example.Emp_Task.Logging.SampledLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// One auth-path log line from 8 request threads: System.out.println as the auth code
+// used to do, the structured console encoder behind a plain (synchronized) appender,
+// and the same encoder behind the AsyncAppender settings of logback-spring.xml.
+// Output goes to a null stream, so this is the cost on the request thread, not the
+// terminal's. The async appender drops INFO once its queue is 80% full instead of
+// blocking, so part of its score can be discarded lines; the share that was written
+// is printed after each trial. The sampled cases are the per-request debug calls in
+// JwtAuthFilter.
+//
+// For the whole-app effect, compare two load runs:
+//   -Dload.args="label=warn" vs -Dload.args="label=info --logging.level.com.example.Emp_Task=INFO"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private PrintStream console;
+    private LoggerContext context;
+    private Logger sync;
+    private Logger async;
+    private final LongAdder asyncOffered = new LongAdder();
+    private final LongAdder asyncWritten = new LongAdder();
+    private SampledLogger sampledOff;
+    private SampledLogger sampledOn;
+
+    @Setup
+    public void setUp() {
+        console = new PrintStream(OutputStream.nullOutputStream(), true);
+
+        // a standalone context, so it misses the MDC adapter and Environment Spring Boot would set up
+        context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        context.putObject(Environment.class.getName(), new StandardEnvironment());
+        sync = logger("sync", nullAppender("SYNC"));
+
+        AsyncAppender asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(context);
+        asyncAppender.setName("ASYNC");
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.setDiscardingThreshold(20);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.setIncludeCallerData(false);
+        OutputStreamAppender<ILoggingEvent> target = new OutputStreamAppender<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                super.append(event);
+                asyncWritten.increment();
+            }
+        };
+        asyncAppender.addAppender(nullAppender("ASYNC_TARGET", target));
+        asyncAppender.start();
+        async = logger("async", asyncAppender);
+
+        Logger debugOff = logger("debug-off", nullAppender("DEBUG_OFF"));
+        debugOff.setLevel(Level.INFO);
+        sampledOff = new SampledLogger(debugOff, 100);
+        Logger debugOn = logger("debug-on", nullAppender("DEBUG_ON"));
+        debugOn.setLevel(Level.DEBUG);
+        sampledOn = new SampledLogger(debugOn, 100);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+        if (asyncOffered.sum() > 0) {
+            System.out.printf("async appender wrote %d of %d lines (%.1f%%)%n", asyncWritten.sum(), asyncOffered.sum(),
+                    100.0 * asyncWritten.sum() / asyncOffered.sum());
+        }
+    }
+
+    @Benchmark
+    public void systemOut() {
+        console.println("Signin attempt for employee " + 42 + " from " + "10.0.0.7");
+    }
+
+    @Benchmark
+    public void syncAppender() {
+        sync.info("Signin attempt for employee {} from {}", 42, "10.0.0.7");
+    }
+
+    @Benchmark
+    public void asyncAppender() {
+        async.info("Signin attempt for employee {} from {}", 42, "10.0.0.7");
+        asyncOffered.increment();
+    }
+
+    @Benchmark
+    public void sampledDebugOff() {
+        sampledOff.debug(sampledOff.sample(), "Authenticated employee {}", 42);
+    }
+
+    @Benchmark
+    public void sampledDebugOn() {
+        sampledOn.debug(sampledOn.sample(), "Authenticated employee {}", 42);
+    }
+
+    private Logger logger(String name, Appender<ILoggingEvent> appender) {
+        Logger logger = context.getLogger(name);
+        logger.setAdditive(false);
+        logger.setLevel(Level.INFO);
+        logger.addAppender(appender);
+        return logger;
+    }
+
+    // the console encoder of logback-spring.xml, writing nowhere
+    private OutputStreamAppender<ILoggingEvent> nullAppender(String name) {
+        return nullAppender(name, new OutputStreamAppender<>());
+    }
+
+    private OutputStreamAppender<ILoggingEvent> nullAppender(String name, OutputStreamAppender<ILoggingEvent> appender) {
+        StructuredLogEncoder encoder = new StructuredLogEncoder();
+        encoder.setContext(context);
+        encoder.setFormat("logstash");
+        encoder.start();
+
+        appender.setContext(context);
+        appender.setName(name);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        return appender;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.Emp_Task.Benchmarks;
+
+import com.example.Emp_Task.Service.AuthService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Sign-ins per second at each bcrypt cost, from 16 concurrent callers. Seeded hashes use
+// the same cost as the app, so no login triggers a rehash. Each step of cost doubles the
+// hashing work; the password-hash pool is sized to the cores, so this is the node's
+// login ceiling at that setting.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(16)
+@Fork(1)
+public class LoginBenchmark {
+
+    @Param({"8", "10", "12"})
+    private int bcryptCost;
+
+    private SyntheticData data;
+    private ConfigurableApplicationContext context;
+    private AuthService authService;
+
+    @State(Scope.Thread)
+    public static class Requests {
+        final SplittableRandom random = new SplittableRandom(5);
+    }
+
+    @Setup(Level.Trial)
+    public void start() {
+        data = new SyntheticData(SyntheticData.DEFAULT_SEED, 200, 0);
+        context = BenchmarkApp.start(data, "--auth.password.bcrypt-strength=" + bcryptCost);
+        authService = context.getBean(AuthService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public String login(Requests requests) {
+        String token = authService.login(SyntheticData.email(data.pickEmployee(requests.random)), SyntheticData.PASSWORD).join();
+        if (token.endsWith("!")) {
+            throw new IllegalStateException(token);
+        }
+        return token;
+    }
+}
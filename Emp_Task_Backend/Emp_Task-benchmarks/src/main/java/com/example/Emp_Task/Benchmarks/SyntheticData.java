@@ -0,0 +1,137 @@
+package com.example.Emp_Task.Benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+
+/**
+ * Deterministic employees and tasks: the same seed and sizes always produce the same
+ * rows, so runs on two commits measure the same data.
+ *
+ * The shape follows what the app sees in use:
+ * - tasks per employee follow a Zipf curve, employee 1 owns the most
+ * - 55% PENDING, 15% IN_PROGRESS, 30% COMPLETED
+ * - starts spread over the year (or historyDays) before ANCHOR and the month after, in working hours
+ * - durations are mostly hours to a few days with a tail up to a month; 5% have no end
+ * - completed tasks were completed around their end
+ */
+public final class SyntheticData {
+
+    public static final long DEFAULT_SEED = 42L;
+    // fixed instead of now(), otherwise the data would drift between runs
+    public static final LocalDateTime ANCHOR = LocalDateTime.of(2025, 1, 1, 9, 0);
+    public static final String PASSWORD = "bench-password";
+
+    public record SeedEmployee(int id, String name, String email, String phone) {
+    }
+
+    public record SeedTask(int id, int employeeId, String description, String status,
+                           LocalDateTime start, LocalDateTime end, LocalDateTime completedAt) {
+    }
+
+    private static final String[] VERBS = {
+            "Review", "Prepare", "Update", "Fix", "Draft", "Plan", "Test", "Deploy", "Audit", "Document"
+    };
+    private static final String[] SUBJECTS = {
+            "quarterly report", "invoice batch", "onboarding checklist", "release notes", "client proposal",
+            "budget sheet", "security patch", "team roster", "sales forecast", "API contract",
+            "training deck", "support backlog"
+    };
+    private static final double ZIPF_EXPONENT = 1.1;
+
+    private final long seed;
+    private final int employees;
+    private final int tasks;
+    private final int historyDays;
+    // cumulative Zipf weights over employee ids 1..employees
+    private final double[] cumulative;
+
+    public SyntheticData(long seed, int employees, int tasks) {
+        this(seed, employees, tasks, 365);
+    }
+
+    // historyDays: how far before ANCHOR task starts go back, for multi-year calendars
+    public SyntheticData(long seed, int employees, int tasks, int historyDays) {
+        this.seed = seed;
+        this.employees = employees;
+        this.tasks = tasks;
+        this.historyDays = historyDays;
+        this.cumulative = new double[employees];
+        double sum = 0;
+        for (int rank = 1; rank <= employees; rank++) {
+            sum += 1 / Math.pow(rank, ZIPF_EXPONENT);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < employees; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    public int employeeCount() {
+        return employees;
+    }
+
+    public int taskCount() {
+        return tasks;
+    }
+
+    public List<SeedEmployee> employees() {
+        List<SeedEmployee> result = new ArrayList<>(employees);
+        for (int id = 1; id <= employees; id++) {
+            // every other employee has a phone, so notifications see both cases
+            String phone = id % 2 == 0 ? String.format("+1555%07d", id) : null;
+            result.add(new SeedEmployee(id, "Employee " + id, email(id), phone));
+        }
+        return result;
+    }
+
+    // tasks in id order (ids 1..tasks); generated one at a time, so a million rows need no list
+    public void forEachTask(Consumer<SeedTask> consumer) {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int id = 1; id <= tasks; id++) {
+            consumer.accept(task(id, random));
+        }
+    }
+
+    // employee id drawn with the same skew as task ownership, for picking request targets
+    public int pickEmployee(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return (index >= 0 ? index : -index - 1) + 1;
+    }
+
+    public static String email(int employeeId) {
+        return "employee" + employeeId + "@bench.test";
+    }
+
+    private SeedTask task(int id, SplittableRandom random) {
+        int employeeId = pickEmployee(random);
+        String description = VERBS[random.nextInt(VERBS.length)] + " " + SUBJECTS[random.nextInt(SUBJECTS.length)] + " #" + id;
+
+        double roll = random.nextDouble();
+        String status = roll < 0.55 ? "PENDING" : roll < 0.70 ? "IN_PROGRESS" : "COMPLETED";
+
+        LocalDateTime start = ANCHOR.toLocalDate()
+                .plusDays(random.nextInt(-historyDays, 31))
+                .atTime(random.nextInt(8, 18), 15 * random.nextInt(4));
+
+        // log-normal around 8 hours, clamped to [1 hour, 30 days]
+        long hours = Math.round(Math.exp(Math.log(8) + 1.2 * random.nextGaussian()));
+        hours = Math.max(1, Math.min(hours, 720));
+        LocalDateTime end = random.nextDouble() < 0.05 ? null : start.plusHours(hours);
+
+        LocalDateTime completedAt = null;
+        if ("COMPLETED".equals(status)) {
+            long minutes = Math.max(15, Math.round(hours * 60 * random.nextDouble(0.3, 1.3)));
+            completedAt = start.plusMinutes(minutes);
+        }
+        return new SeedTask(id, employeeId, description, status, start, end, completedAt);
+    }
+}
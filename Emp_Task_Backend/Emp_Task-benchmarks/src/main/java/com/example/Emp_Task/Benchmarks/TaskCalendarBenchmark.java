@@ -0,0 +1,102 @@
+package com.example.Emp_Task.Benchmarks;
+
+import com.example.Emp_Task.Archive.TaskArchiver;
+import com.example.Emp_Task.Dto.TaskCalendar;
+import com.example.Emp_Task.Service.TaskCalendarService;
+import com.example.Emp_Task.Service.TaskCalendarService.Bucket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// Calendar windows over several years of tasks: one month by day, one year by week and
+// the widest window allowed (three years) by week, for one employee and for a team of 20.
+// With archived=true every completed task is first moved to tasks_archive, as on a node
+// that has been running for a while, so the archive half of each query has rows too.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskCalendarBenchmark {
+
+    private static final LocalDate LAST_DAY = SyntheticData.ANCHOR.toLocalDate().plusDays(30);
+    private static final List<Integer> TEAM = IntStream.rangeClosed(1, 20).boxed().toList();
+
+    @Param("500")
+    private int employees;
+
+    @Param("200000")
+    private int tasks;
+
+    @Param("3")
+    private int years;
+
+    @Param({"false", "true"})
+    private boolean archived;
+
+    private SyntheticData data;
+    private ConfigurableApplicationContext context;
+    private TaskCalendarService calendarService;
+
+    @State(Scope.Thread)
+    public static class Requests {
+        final SplittableRandom random = new SplittableRandom(3);
+    }
+
+    @Setup(Level.Trial)
+    public void start() {
+        data = new SyntheticData(SyntheticData.DEFAULT_SEED, employees, tasks, 365 * years);
+        context = BenchmarkApp.start(data);
+        calendarService = context.getBean(TaskCalendarService.class);
+        if (archived) {
+            context.getBean(TaskArchiver.class).archive();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskCalendar monthByDay(Requests requests) {
+        LocalDate from = LAST_DAY.minusDays(requests.random.nextInt(365 * years - 30)).withDayOfMonth(1);
+        return calendarService.getCalendar(List.of(data.pickEmployee(requests.random)), from,
+                from.plusMonths(1).minusDays(1), Bucket.DAY);
+    }
+
+    @Benchmark
+    public TaskCalendar yearByWeek(Requests requests) {
+        return calendarService.getCalendar(List.of(data.pickEmployee(requests.random)), LAST_DAY.minusYears(1).plusDays(1),
+                LAST_DAY, Bucket.WEEK);
+    }
+
+    @Benchmark
+    public TaskCalendar threeYearsByWeek(Requests requests) {
+        return calendarService.getCalendar(List.of(data.pickEmployee(requests.random)), LAST_DAY.minusDays(1094),
+                LAST_DAY, Bucket.WEEK);
+    }
+
+    @Benchmark
+    public TaskCalendar teamYearByWeek() {
+        return calendarService.getCalendar(TEAM, LAST_DAY.minusYears(1).plusDays(1), LAST_DAY, Bucket.WEEK);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.Emp_Task.Benchmarks;
+
+import com.example.Emp_Task.Service.TaskExportService;
+import com.example.Emp_Task.Service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Exporting every task as one JSON array: streamed from a cursor by TaskExportService,
+// against loading the whole list through TaskService.getAllTasks() and serializing it.
+// After each iteration the peak of the survivor and old-generation pools above the
+// post-GC baseline is printed - what the export kept alive, as opposed to short-lived
+// garbage (for that, run with -prof gc). Bodies go to a null stream.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TaskExportBenchmark {
+
+    @Param("500")
+    private int employees;
+
+    @Param({"50000", "200000"})
+    private int tasks;
+
+    private ConfigurableApplicationContext context;
+    private TaskExportService exportService;
+    private TaskService taskService;
+    private JsonMapper mapper;
+    private List<MemoryPoolMXBean> retainedPools;
+    private long baseline;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkApp.start(new SyntheticData(SyntheticData.DEFAULT_SEED, employees, tasks));
+        exportService = context.getBean(TaskExportService.class);
+        taskService = context.getBean(TaskService.class);
+        mapper = context.getBean(JsonMapper.class);
+        // eden fills and empties either way; the other heap pools hold what survives a collection
+        retainedPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP && !pool.getName().contains("Eden"))
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPeak() {
+        System.gc();
+        baseline = retainedPools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+        retainedPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    @TearDown(Level.Iteration)
+    public void printPeak() {
+        long peak = retainedPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        System.out.printf("  retained heap peak: %d MB above baseline%n", Math.max(0, peak - baseline) >> 20);
+    }
+
+    @Benchmark
+    public void streamedExport() {
+        exportService.export(null, TaskExportService.Format.JSON, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void loadAllThenSerialize() {
+        mapper.writeValue(OutputStream.nullOutputStream(), taskService.getAllTasks());
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.Emp_Task.Benchmarks;
+
+import com.example.Emp_Task.Dto.TaskView;
+import com.example.Emp_Task.Entity.Employee;
+import com.example.Emp_Task.Entity.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Response bodies of the list endpoints: Task entities (single-task endpoints) and TaskView rows (lists).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskJsonBenchmark {
+
+    @Param({"50", "1000"})
+    private int size;
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+    private List<Task> tasks;
+    private List<TaskView> views;
+
+    @Setup
+    public void setUp() {
+        tasks = new ArrayList<>(size);
+        views = new ArrayList<>(size);
+        Map<Integer, Employee> employees = new HashMap<>();
+        new SyntheticData(SyntheticData.DEFAULT_SEED, 100, size).forEachTask(t -> {
+            Employee employee = employees.computeIfAbsent(t.employeeId(), id -> {
+                Employee e = new Employee();
+                e.setId(id);
+                return e;
+            });
+            Task task = new Task(t.description(), t.status(), t.start(), t.end(), employee);
+            task.setId(t.id());
+            task.setVersion(0L);
+            task.setCompletedAt(t.completedAt());
+            tasks.add(task);
+            views.add(new TaskView(t.id(), t.description(), t.status(), t.start(), t.end(), t.completedAt(), 0L,
+                    t.employeeId()));
+        });
+    }
+
+    @Benchmark
+    public byte[] serializeTasks() {
+        return mapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] serializeTaskViews() {
+        return mapper.writeValueAsBytes(views);
+    }
+}
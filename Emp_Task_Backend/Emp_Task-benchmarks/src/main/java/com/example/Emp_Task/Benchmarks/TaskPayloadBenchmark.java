@@ -0,0 +1,132 @@
+package com.example.Emp_Task.Benchmarks;
+
+import com.example.Emp_Task.Dto.TaskView;
+import com.example.Emp_Task.Entity.Task;
+import com.example.Emp_Task.Metrics.QueryCountInspector;
+import com.example.Emp_Task.Service.TaskService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// GET /tasks/employee/{empId} end to end minus HTTP: query plus JSON body.
+// "entities" is the list path before column projections - managed Task entities with
+// the employee loaded and nested in every task; "projections" is today's TaskView path.
+// Bytes, rows and statements per call are printed after each iteration; run with
+// -prof gc for the allocation rate.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskPayloadBenchmark {
+
+    @Param("500")
+    private int employees;
+
+    @Param("50000")
+    private int tasks;
+
+    private SyntheticData data;
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTx;
+    private JsonMapper mapper;
+
+    @State(Scope.Thread)
+    public static class Requests {
+        final SplittableRandom random = new SplittableRandom(7);
+        long calls;
+        long bytes;
+        long rows;
+        long statements;
+
+        void count(int bodyBytes, int rowCount, int statementCount) {
+            calls++;
+            bytes += bodyBytes;
+            rows += rowCount;
+            statements += statementCount;
+        }
+
+        @TearDown(Level.Iteration)
+        public void print() {
+            if (calls > 0) {
+                System.out.printf("  per call: %d bytes, %d rows, %.1f statements%n",
+                        bytes / calls, rows / calls, statements / (double) calls);
+            }
+            calls = bytes = rows = statements = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void start() {
+        data = new SyntheticData(SyntheticData.DEFAULT_SEED, employees, tasks);
+        context = BenchmarkApp.start(data);
+        taskService = context.getBean(TaskService.class);
+        entityManager = context.getBean(EntityManager.class);
+        readOnlyTx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTx.setReadOnly(true);
+        mapper = context.getBean(JsonMapper.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] entities(Requests requests) {
+        int empId = data.pickEmployee(requests.random);
+        int[] rows = new int[1];
+        QueryCountInspector.begin();
+        byte[] body = readOnlyTx.execute(status -> {
+            List<Task> list = entityManager.createQuery("select t from Task t where t.employee.id = :empId order by t.id", Task.class)
+                    .setParameter("empId", empId)
+                    .getResultList();
+            rows[0] = list.size();
+            ArrayNode json = mapper.createArrayNode();
+            for (Task task : list) {
+                Hibernate.initialize(task.getEmployee());
+                ObjectNode node = mapper.valueToTree(task);
+                node.set("employee", mapper.valueToTree(task.getEmployee()));
+                json.add(node);
+            }
+            return mapper.writeValueAsBytes(json);
+        });
+        requests.count(body.length, rows[0], QueryCountInspector.end());
+        return body;
+    }
+
+    @Benchmark
+    public byte[] projections(Requests requests) {
+        int empId = data.pickEmployee(requests.random);
+        QueryCountInspector.begin();
+        List<TaskView> views = taskService.getTasksByEmployee(empId);
+        byte[] body = mapper.writeValueAsBytes(views);
+        requests.count(body.length, views.size(), QueryCountInspector.end());
+        return body;
+    }
+}
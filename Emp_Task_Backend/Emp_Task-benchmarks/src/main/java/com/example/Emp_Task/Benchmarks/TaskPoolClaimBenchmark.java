@@ -0,0 +1,122 @@
+package com.example.Emp_Task.Benchmarks;
+
+import com.example.Emp_Task.Dto.PoolClaim;
+import com.example.Emp_Task.Pool.TaskPoolService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Claims per second from the shared task pool with 1, 4 and 16 concurrent claimers.
+// Every iteration starts with a full pool and ends by checking that no pool row was
+// handed out twice; a lock wait timeout or deadlock fails the run.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskPoolClaimBenchmark {
+
+    @Param("500")
+    private int employees;
+
+    // tasks taken per claim call
+    @Param({"1", "10"})
+    private int batch;
+
+    // open rows at the start of each iteration; must outlast the iteration
+    @Param("200000")
+    private int poolSize;
+
+    private SyntheticData data;
+    private ConfigurableApplicationContext context;
+    private TaskPoolService pool;
+    private JdbcTemplate jdbc;
+
+    @State(Scope.Thread)
+    public static class Claimer {
+        final SplittableRandom random = new SplittableRandom(11);
+    }
+
+    @Setup(Level.Trial)
+    public void start() {
+        data = new SyntheticData(SyntheticData.DEFAULT_SEED, employees, 0);
+        context = BenchmarkApp.start(data);
+        pool = context.getBean(TaskPoolService.class);
+        jdbc = context.getBean(JdbcTemplate.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void fillPool() {
+        jdbc.update("DELETE FROM task_pool");
+        jdbc.update("DELETE FROM tasks");
+        Timestamp now = Timestamp.valueOf(SyntheticData.ANCHOR);
+        List<Object[]> rows = new ArrayList<>(poolSize);
+        for (int i = 0; i < poolSize; i++) {
+            rows.add(new Object[]{"Pooled task " + i, now, now});
+        }
+        jdbc.batchUpdate("INSERT INTO task_pool (description, start_date_time, status, created_at) "
+                + "VALUES (?, ?, 'OPEN', ?)", rows);
+    }
+
+    @TearDown(Level.Iteration)
+    public void checkClaims() {
+        Integer open = jdbc.queryForObject("SELECT COUNT(*) FROM task_pool WHERE status = 'OPEN'", Integer.class);
+        Integer claimed = jdbc.queryForObject("SELECT COUNT(*) FROM task_pool WHERE status = 'CLAIMED'", Integer.class);
+        Integer distinctTasks = jdbc.queryForObject("SELECT COUNT(DISTINCT task_id) FROM task_pool WHERE status = 'CLAIMED'", Integer.class);
+        Integer tasks = jdbc.queryForObject("SELECT COUNT(*) FROM tasks", Integer.class);
+        if (!claimed.equals(distinctTasks) || !claimed.equals(tasks)) {
+            throw new IllegalStateException("double assignment: " + claimed + " claimed rows, "
+                    + distinctTasks + " distinct tasks, " + tasks + " tasks");
+        }
+        if (open == 0) {
+            throw new IllegalStateException("pool ran dry, raise poolSize");
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<PoolClaim> claim1(Claimer claimer) {
+        return claim(claimer);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<PoolClaim> claim4(Claimer claimer) {
+        return claim(claimer);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public List<PoolClaim> claim16(Claimer claimer) {
+        return claim(claimer);
+    }
+
+    private List<PoolClaim> claim(Claimer claimer) {
+        return pool.claim(data.pickEmployee(claimer.random), batch);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.Emp_Task.Benchmarks;
+
+import com.example.Emp_Task.Dto.TaskSearchHit;
+import com.example.Emp_Task.Search.TaskSearchService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Task search: a full index build from the database (rebuild, one shot per iteration)
+// and query latency for a common two-word query, a rare term and a query filtered to
+// one employee's open tasks. Queries include reading the hits' rows by id.
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class TaskSearchBenchmark {
+
+    @Param("500")
+    private int employees;
+
+    @Param({"50000", "200000"})
+    private int tasks;
+
+    private SyntheticData data;
+    private ConfigurableApplicationContext context;
+    private TaskSearchService searchService;
+
+    @State(Scope.Thread)
+    public static class Requests {
+        final SplittableRandom random = new SplittableRandom(13);
+    }
+
+    @Setup(Level.Trial)
+    public void start() throws InterruptedException {
+        data = new SyntheticData(SyntheticData.DEFAULT_SEED, employees, tasks);
+        context = BenchmarkApp.start(data);
+        searchService = context.getBean(TaskSearchService.class);
+        // the startup build runs in the background, and a rebuild started meanwhile returns
+        // at once; wait until one of ours has run, so every measured rebuild is a full one
+        Timer rebuilds = context.getBean(MeterRegistry.class).get("tasks.search.rebuild").timer();
+        long before;
+        do {
+            Thread.sleep(100);
+            before = rebuilds.count();
+            searchService.rebuild();
+        } while (rebuilds.count() == before);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public void rebuild() {
+        searchService.rebuild();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public List<TaskSearchHit> commonTerms() {
+        return searchService.search("quarterly report", null, null, 20);
+    }
+
+    // one description carries each task number
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public List<TaskSearchHit> rareTerm(Requests requests) {
+        return searchService.search(String.valueOf(1 + requests.random.nextInt(tasks)), null, null, 20);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public List<TaskSearchHit> employeePending(Requests requests) {
+        return searchService.search("review", data.pickEmployee(requests.random), "PENDING", 20);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.Emp_Task.Benchmarks;
+
+import com.example.Emp_Task.Dto.TaskPage;
+import com.example.Emp_Task.Dto.TaskView;
+import com.example.Emp_Task.Entity.Task;
+import com.example.Emp_Task.Service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// TaskService through its Spring proxies (transactions, events, listeners) on seeded data.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+    @Param("500")
+    private int employees;
+
+    @Param("50000")
+    private int tasks;
+
+    private SyntheticData data;
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+
+    // per thread, seeded, so every run asks for the same employees in the same order
+    @State(Scope.Thread)
+    public static class Requests {
+        final SplittableRandom random = new SplittableRandom(7);
+    }
+
+    @Setup(Level.Trial)
+    public void start() {
+        data = new SyntheticData(SyntheticData.DEFAULT_SEED, employees, tasks);
+        context = BenchmarkApp.start(data);
+        taskService = context.getBean(TaskService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskView> tasksByEmployee(Requests requests) {
+        return taskService.getTasksByEmployee(data.pickEmployee(requests.random));
+    }
+
+    // employee 1 owns the most tasks: the worst case for the list endpoints
+    @Benchmark
+    public List<TaskView> tasksOfBusiestEmployee() {
+        return taskService.getTasksByEmployee(1);
+    }
+
+    @Benchmark
+    public List<TaskView> pendingTasks(Requests requests) {
+        return taskService.getPendingTasks(data.pickEmployee(requests.random));
+    }
+
+    @Benchmark
+    public TaskPage<TaskView> firstPage(Requests requests) {
+        return taskService.getTaskPage(data.pickEmployee(requests.random), null, null, 50, "asc");
+    }
+
+    @Benchmark
+    public List<TaskView> tasksByStartDate(Requests requests) {
+        String date = SyntheticData.ANCHOR.toLocalDate().minusDays(requests.random.nextInt(365)).toString();
+        return taskService.getTasksByStartDate(data.pickEmployee(requests.random), date);
+    }
+
+    // the write path: insert, change event and every listener, then delete so the data stays put
+    @Benchmark
+    public Integer addAndDeleteTask(Requests requests) {
+        Task task = new Task("Benchmark task", null, SyntheticData.ANCHOR, SyntheticData.ANCHOR.plusHours(8), null);
+        Task saved = taskService.addTask(data.pickEmployee(requests.random), task);
+        taskService.deleteTask(saved.getId());
+        return saved.getId();
+    }
+}
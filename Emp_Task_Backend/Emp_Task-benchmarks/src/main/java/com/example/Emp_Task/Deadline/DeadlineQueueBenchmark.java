@@ -0,0 +1,115 @@
+package com.example.Emp_Task.Deadline;
+
+import com.example.Emp_Task.Event.TaskSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// DeadlineQueue holding a million open deadlines spread over 30 days: the startup load,
+// rescheduling a random task (an edit of its end time), and the steady state of one new
+// deadline in and the earliest one fired. The heap a full queue keeps on top of the
+// snapshots is printed after each load. Same package as DeadlineQueue, which is package-private.
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class DeadlineQueueBenchmark {
+
+    private static final long SPREAD_MILLIS = TimeUnit.DAYS.toMillis(30);
+    private static final LocalDateTime END = LocalDateTime.of(2025, 1, 1, 17, 0);
+
+    @Param("1000000")
+    private int deadlines;
+
+    private TaskSnapshot[] tasks;
+    private long[] dues;
+    private DeadlineQueue queue;
+    private SplittableRandom random;
+    private long[] versions;
+    private int nextId;
+
+    @Setup(Level.Trial)
+    public void createTasks() {
+        SplittableRandom seeded = new SplittableRandom(17);
+        tasks = new TaskSnapshot[deadlines];
+        dues = new long[deadlines];
+        for (int i = 0; i < deadlines; i++) {
+            tasks[i] = snapshot(i + 1, 0L);
+            dues[i] = seeded.nextLong(SPREAD_MILLIS);
+        }
+    }
+
+    // a full queue for the steady-state benchmarks; the load benchmark builds its own
+    @Setup(Level.Iteration)
+    public void fill() {
+        queue = null;
+        System.gc();
+        long before = usedHeap();
+        queue = load();
+        System.gc();
+        // the snapshots are created once per trial, so this is the heap and index overhead
+        System.out.printf("  queue of %d deadlines retains %d MB%n", queue.size(), (usedHeap() - before) >> 20);
+        random = new SplittableRandom(23);
+        versions = new long[deadlines + 1];
+        nextId = deadlines + 1;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public DeadlineQueue loadAll() {
+        return load();
+    }
+
+    // stale entries stay in the heap until they surface or a compaction drops them
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public boolean reschedule() {
+        int id = 1 + random.nextInt(deadlines);
+        return queue.schedule(snapshot(id, ++versions[id]), random.nextLong(SPREAD_MILLIS));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public List<TaskSnapshot> scheduleAndFire() {
+        long next = queue.nextDueMillis();
+        queue.schedule(snapshot(nextId++, 0L), next + random.nextLong(SPREAD_MILLIS));
+        return queue.pollDue(next);
+    }
+
+    private DeadlineQueue load() {
+        DeadlineQueue filled = new DeadlineQueue();
+        for (int i = 0; i < deadlines; i++) {
+            filled.schedule(tasks[i], dues[i]);
+        }
+        return filled;
+    }
+
+    private static TaskSnapshot snapshot(int id, long version) {
+        return new TaskSnapshot(id, 1 + id % 500, null, "PENDING", END.minusHours(8), END, null, version);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.Emp_Task.Archive;
+
+import com.example.Emp_Task.Repository.ArchivedTaskRepository;
+import com.example.Emp_Task.Repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves COMPLETED tasks older than {@code tasks.archive.completed-age} from tasks to
+ * tasks_archive, one batch per transaction, so the hot table only holds open and
+ * recently finished work. TaskService, TaskCalendarService, TaskExportService and the
+ * stats aggregate read both tables, so callers see no difference.
+ * <p>
+ * No TaskChangeEvent is published: the merged reads return the same tasks before and
+ * after, so list versions, stats and streams have nothing to update. Archived tasks are
+ * read-only (updates and deletes by id answer "Task Not Found") and drop out of search.
+ */
+@Component
+public class TaskArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskArchiver.class);
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TransactionTemplate tx;
+    private final Counter archived;
+    private final boolean enabled;
+    private final Duration completedAge;
+    private final int batchSize;
+
+    public TaskArchiver(TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository,
+                        PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                        @Value("${tasks.archive.enabled:true}") boolean enabled,
+                        @Value("${tasks.archive.completed-age:P180D}") Duration completedAge,
+                        @Value("${tasks.archive.batch-size:1000}") int batchSize) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.completedAge = completedAge;
+        this.batchSize = batchSize;
+        this.archived = Counter.builder("tasks.archived")
+                .description("Completed tasks moved to tasks_archive")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.archive.interval:PT1H}",
+            initialDelayString = "${tasks.archive.interval:PT1H}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(completedAge);
+        int total = 0;
+        try {
+            int moved;
+            do {
+                moved = tx.execute(status -> archiveBatch(cutoff));
+                archived.increment(moved);
+                total += moved;
+            } while (moved > 0);
+        } catch (DataAccessException | IllegalStateException e) {
+            // usually another node archiving the same rows; that batch rolled back and is retried next run
+            log.warn("Task archival stopped after {} task(s): {}", total, e.getMessage());
+        }
+        if (total > 0) {
+            log.info("Archived {} completed task(s) finished before {}", total, cutoff);
+        }
+    }
+
+    // one batch: copy then delete, both conditional on COMPLETED; if a task was reopened
+    // between the two the counts differ and the whole batch rolls back
+    int archiveBatch(LocalDateTime cutoff) {
+        List<Integer> ids = taskRepository.findArchivableIds(cutoff, Limit.of(batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int copied = archivedTaskRepository.copyFromTasks(ids, LocalDateTime.now());
+        int deleted = taskRepository.deleteCompletedByIdIn(ids);
+        if (copied != deleted) {
+            throw new IllegalStateException("archived " + copied + " task(s) but removed " + deleted);
+        }
+        return deleted;
+    }
+}
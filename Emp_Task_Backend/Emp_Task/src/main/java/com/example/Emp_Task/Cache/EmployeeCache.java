@@ -0,0 +1,191 @@
+package com.example.Emp_Task.Cache;
+
+import com.example.Emp_Task.Database.ReplicaRouting;
+import com.example.Emp_Task.Entity.Employee;
+import com.example.Emp_Task.Repository.EmployeeRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Two-level cache for employee lookups: a bounded Caffeine map per node in front of
+ * the shared {@link EmployeeCacheTier} (Redis), with the database as the last resort.
+ * Callers always get their own copy, so mutating a result never leaks into the cache.
+ * <p>
+ * A fill that raced an evict must not put back what it read: both tiers count evictions,
+ * a fill notes the counts before it reads, and its write is dropped if they moved.
+ * An evict inside a transaction waits for the commit: before it, a fill still reads the old row.
+ */
+@Component
+public class EmployeeCache {
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeCacheTier sharedTier;
+
+    private final Cache<Integer, Employee> byId;
+    private final Cache<String, Integer> idByEmail;
+
+    private final Counter sharedHits;
+    private final Counter sharedMisses;
+
+    // evictions on this node (its own and other nodes' invalidations); guarded by itself
+    private final Object fillLock = new Object();
+    private long localGeneration;
+
+    public EmployeeCache(EmployeeRepository employeeRepository,
+                         EmployeeCacheTier sharedTier,
+                         MeterRegistry meterRegistry,
+                         @Value("${employee.cache.max-size:10000}") long maxSize,
+                         @Value("${employee.cache.ttl:10m}") Duration ttl) {
+        this.employeeRepository = employeeRepository;
+        this.sharedTier = sharedTier;
+
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.idByEmail = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "employees.byId");
+        CaffeineCacheMetrics.monitor(meterRegistry, idByEmail, "employees.byEmail");
+        this.sharedHits = Counter.builder("employee.cache.shared")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.sharedMisses = Counter.builder("employee.cache.shared")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public Optional<Employee> findById(Integer id) {
+        Employee local = byId.getIfPresent(id);
+        if (local != null) {
+            return Optional.of(copyOf(local));
+        }
+
+        long localGeneration = localGeneration();
+        Employee shared = sharedTier.get(id);
+        if (shared != null) {
+            sharedHits.increment();
+            remember(shared, localGeneration);
+            return Optional.of(copyOf(shared));
+        }
+        sharedMisses.increment();
+
+        // cache fills read the primary: a replica may still have the row this node just evicted
+        long sharedGeneration = sharedTier.generation();
+        Optional<Employee> loaded = ReplicaRouting.onPrimary(() -> employeeRepository.findById(id));
+        loaded.ifPresent(emp -> {
+            remember(emp, localGeneration);
+            sharedTier.put(copyOf(emp), sharedGeneration);
+        });
+        return loaded.map(EmployeeCache::copyOf);
+    }
+
+    // same contract as EmployeeRepository.findByEmail: null when there is no such employee
+    public Employee findByEmail(String email) {
+        if (email == null) {
+            return null;
+        }
+
+        Integer id = idByEmail.getIfPresent(email);
+        if (id == null) {
+            id = sharedTier.getIdByEmail(email);
+        }
+        if (id != null) {
+            Employee emp = findById(id).orElse(null);
+            // the mapping can outlive the row (deleted, or email changed on another node)
+            if (emp != null && email.equals(emp.getEmail())) {
+                return emp;
+            }
+            idByEmail.invalidate(email);
+        }
+
+        long localGeneration = localGeneration();
+        long sharedGeneration = sharedTier.generation();
+        Employee loaded = ReplicaRouting.onPrimary(() -> employeeRepository.findByEmail(email));
+        if (loaded != null) {
+            remember(loaded, localGeneration);
+            sharedTier.put(copyOf(loaded), sharedGeneration);
+            return copyOf(loaded);
+        }
+        return null;
+    }
+
+    // drop an employee everywhere: this node, the shared tier and every other node.
+    // Called in a transaction, it happens after the commit (and not at all on rollback)
+    public void evict(Integer id, String... emails) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(id, emails);
+                }
+            });
+            return;
+        }
+        evictNow(id, emails);
+    }
+
+    private void evictNow(Integer id, String... emails) {
+        evictLocal(id);
+        sharedTier.evict(id, null);
+        for (String email : emails) {
+            if (email != null) {
+                idByEmail.invalidate(email);
+                sharedTier.evict(id, email);
+            }
+        }
+        sharedTier.publishInvalidation(id);
+    }
+
+    // invalidation received from another node
+    public void evictLocal(Integer id) {
+        synchronized (fillLock) {
+            localGeneration++;
+            byId.invalidate(id);
+            idByEmail.asMap().values().removeIf(id::equals);
+        }
+    }
+
+    private long localGeneration() {
+        synchronized (fillLock) {
+            return localGeneration;
+        }
+    }
+
+    private void remember(Employee emp, long generation) {
+        synchronized (fillLock) {
+            if (generation != localGeneration) {
+                return;
+            }
+            byId.put(emp.getId(), copyOf(emp));
+            if (emp.getEmail() != null) {
+                idByEmail.put(emp.getEmail(), emp.getId());
+            }
+        }
+    }
+
+    private static Employee copyOf(Employee emp) {
+        Employee copy = new Employee();
+        copy.setId(emp.getId());
+        copy.setName(emp.getName());
+        copy.setEmail(emp.getEmail());
+        copy.setPassword(emp.getPassword());
+        copy.setPhone(emp.getPhone());
+        return copy;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.Emp_Task.Cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@ConditionalOnProperty(name = "cluster.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class EmployeeCacheConfig {
+
+    // every node listens for invalidations so its Caffeine tier never serves an updated/deleted employee
+    @Bean
+    public RedisMessageListenerContainer employeeCacheListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                      RedisTemplate<Object, Object> redisTemplate,
+                                                                      EmployeeCache employeeCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            Object id = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (id instanceof Integer empId) {
+                employeeCache.evictLocal(empId);
+            }
+        }, new ChannelTopic(RedisEmployeeCacheTier.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
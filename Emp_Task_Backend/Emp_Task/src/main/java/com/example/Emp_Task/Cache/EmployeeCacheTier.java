@@ -0,0 +1,24 @@
+package com.example.Emp_Task.Cache;
+
+import com.example.Emp_Task.Entity.Employee;
+
+// Second (shared) level of the employee cache, behind the in-process Caffeine tier.
+// Implementations must treat backend failures as misses - the database is always the fallback.
+// A fill reads generation() before loading from the database and passes it to put, which
+// writes nothing if an evict ran meanwhile - the load may have seen the row before the change.
+public interface EmployeeCacheTier {
+
+    Employee get(Integer id);
+
+    Integer getIdByEmail(String email);
+
+    // bumped by every evict
+    long generation();
+
+    void put(Employee employee, long generation);
+
+    void evict(Integer id, String email);
+
+    // tell the other nodes to drop their in-process copy
+    void publishInvalidation(Integer id);
+}
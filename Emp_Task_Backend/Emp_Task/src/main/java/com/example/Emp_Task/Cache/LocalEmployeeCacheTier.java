@@ -0,0 +1,58 @@
+package com.example.Emp_Task.Cache;
+
+import com.example.Emp_Task.Entity.Employee;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// In-memory stand-in for the Redis tier, used when cluster.redis.enabled=false
+// (tests and single-node setups). There is no other node to notify.
+@Component
+@ConditionalOnProperty(name = "cluster.redis.enabled", havingValue = "false")
+public class LocalEmployeeCacheTier implements EmployeeCacheTier {
+
+    private final Map<Integer, Employee> byId = new ConcurrentHashMap<>();
+    private final Map<String, Integer> idByEmail = new ConcurrentHashMap<>();
+    private long generation;
+
+    @Override
+    public Employee get(Integer id) {
+        return byId.get(id);
+    }
+
+    @Override
+    public Integer getIdByEmail(String email) {
+        return idByEmail.get(email);
+    }
+
+    @Override
+    public synchronized long generation() {
+        return generation;
+    }
+
+    @Override
+    public synchronized void put(Employee employee, long generation) {
+        if (generation != this.generation) {
+            return;
+        }
+        byId.put(employee.getId(), employee);
+        if (employee.getEmail() != null) {
+            idByEmail.put(employee.getEmail(), employee.getId());
+        }
+    }
+
+    @Override
+    public synchronized void evict(Integer id, String email) {
+        generation++;
+        byId.remove(id);
+        if (email != null) {
+            idByEmail.remove(email);
+        }
+    }
+
+    @Override
+    public void publishInvalidation(Integer id) {
+    }
+}
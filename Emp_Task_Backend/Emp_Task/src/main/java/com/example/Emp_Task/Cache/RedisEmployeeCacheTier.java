@@ -0,0 +1,147 @@
+package com.example.Emp_Task.Cache;
+
+import com.example.Emp_Task.Entity.Employee;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "cluster.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisEmployeeCacheTier implements EmployeeCacheTier {
+
+    public static final String INVALIDATION_CHANNEL = "employee-cache-invalidation";
+
+    private static final Logger log = LoggerFactory.getLogger(RedisEmployeeCacheTier.class);
+
+    // INCR'd by every evict, on any node
+    static final String GENERATION_KEY = "employee:generation";
+
+    // KEYS: generation, id key[, email key]; ARGV: expected generation, employee, id, ttl millis.
+    // Check and write in one script, so an evict can't land between them.
+    static final RedisScript<Long> PUT_IF_GENERATION = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[1]) or '0') ~= ARGV[1] then return 0 end\n" +
+            "redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[4])\n" +
+            "if KEYS[3] then redis.call('SET', KEYS[3], ARGV[3], 'PX', ARGV[4]) end\n" +
+            "return 1", Long.class);
+
+    private final RedisTemplate<Object, Object> redisTemplate;
+    private final Duration ttl;
+
+    public RedisEmployeeCacheTier(RedisTemplate<Object, Object> redisTemplate,
+                                  @Value("${employee.cache.redis-ttl:30m}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Employee get(Integer id) {
+        try {
+            return (Employee) redisTemplate.opsForValue().get(idKey(id));
+        } catch (RuntimeException e) {
+            log.debug("Redis read failed for employee {}: {}", id, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public Integer getIdByEmail(String email) {
+        try {
+            return (Integer) redisTemplate.opsForValue().get(emailKey(email));
+        } catch (RuntimeException e) {
+            log.debug("Redis read failed for employee email lookup: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // the counter is a plain INCR value, so it is read raw rather than through the value serializer;
+    // -1 when Redis is unreachable, which no put will match
+    @Override
+    public long generation() {
+        try {
+            byte[] raw = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.stringCommands().get(rawKey(GENERATION_KEY)));
+            return raw == null ? 0 : Long.parseLong(new String(raw, StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            log.debug("Redis read failed for the employee cache generation: {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    @Override
+    public void put(Employee employee, long generation) {
+        if (generation < 0) {
+            return;
+        }
+        List<Object> keys = new ArrayList<>(List.of(GENERATION_KEY, idKey(employee.getId())));
+        if (employee.getEmail() != null) {
+            keys.add(emailKey(employee.getEmail()));
+        }
+        RedisSerializer<Object> values = valueSerializer();
+        try {
+            // arguments go in pre-serialized: the generation and ttl as text for the script to
+            // compare and pass to SET, the values as the rest of the template writes them
+            redisTemplate.execute(PUT_IF_GENERATION, RedisSerializer.byteArray(), new GenericToStringSerializer<>(Long.class),
+                    keys, text(generation), values.serialize(employee), values.serialize(employee.getId()),
+                    text(ttl.toMillis()));
+        } catch (RuntimeException e) {
+            log.debug("Redis write failed for employee {}: {}", employee.getId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(Integer id, String email) {
+        try {
+            redisTemplate.opsForValue().increment(GENERATION_KEY);
+            redisTemplate.delete(idKey(id));
+            if (email != null) {
+                redisTemplate.delete(emailKey(email));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Redis evict failed for employee {}: {}", id, e.getMessage());
+        }
+    }
+
+    @Override
+    public void publishInvalidation(Integer id) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, id);
+        } catch (RuntimeException e) {
+            log.warn("Could not publish cache invalidation for employee {}: {}", id, e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] rawKey(String key) {
+        return ((RedisSerializer<Object>) redisTemplate.getKeySerializer()).serialize(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisSerializer<Object> valueSerializer() {
+        return (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+    }
+
+    private static byte[] text(long value) {
+        return Long.toString(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    static String idKey(Integer id) {
+        return "employee:id:" + id;
+    }
+
+    static String emailKey(String email) {
+        return "employee:email:" + email;
+    }
+}
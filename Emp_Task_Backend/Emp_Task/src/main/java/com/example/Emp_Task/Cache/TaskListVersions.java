@@ -0,0 +1,125 @@
+package com.example.Emp_Task.Cache;
+
+import com.example.Emp_Task.Database.ReplicaRouting;
+import com.example.Emp_Task.Event.TaskChangeBroadcast;
+import com.example.Emp_Task.Event.TaskChangeEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A cheap version per employee's task list, used for ETag / Last-Modified on the task
+ * read endpoints. Any committed change to one of the employee's tasks - on this node or,
+ * via {@link TaskChangeBroadcast}, on another - moves the version on. Versions are
+ * local to the node (the ETag carries a per-start epoch, so another node's ETag never
+ * matches) and expire after a while, which bounds staleness if a broadcast is lost.
+ */
+@Component
+public class TaskListVersions {
+
+    private record Version(long stamp, Instant modified) {
+    }
+
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final Cache<Integer, Version> versions;
+
+    private final Counter notModified;
+    private final Counter full;
+
+    public TaskListVersions(MeterRegistry meterRegistry,
+                            @Value("${tasks.etag.max-employees:10000}") long maxEmployees,
+                            @Value("${tasks.etag.ttl:PT1M}") Duration ttl) {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxEmployees)
+                .expireAfterWrite(ttl)
+                .build();
+        this.notModified = Counter.builder("tasks.conditional.reads")
+                .tag("result", "not_modified")
+                .description("Task reads answered from the client's copy with 304")
+                .register(meterRegistry);
+        this.full = Counter.builder("tasks.conditional.reads")
+                .tag("result", "full")
+                .description("Task reads that ran the query and sent a body")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 304 if the client's copy of empId's tasks is current, otherwise runs the query.
+     * The version is read before the query, so a write racing with it can only make
+     * the response look older than it is, never newer. That needs the query to see every
+     * commit the version has counted, so it runs on the primary: a lagging replica would
+     * pair an old list with the new ETag, and the client would keep it through 304s.
+     */
+    public <T> ResponseEntity<T> conditional(WebRequest request, Integer empId, Supplier<T> body) {
+        Version version = versions.get(empId, id -> newVersion());
+        String etag = "\"" + epoch + "-" + version.stamp() + "\"";
+        long lastModified = version.modified().toEpochMilli();
+
+        if (request.checkNotModified(etag, lastModified)) {
+            notModified.increment();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        full.increment();
+        return ResponseEntity.ok()
+                // the browser keeps the copy but revalidates every time
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(etag)
+                .lastModified(lastModified)
+                .body(ReplicaRouting.onPrimary(body));
+    }
+
+    // the writing node moves on right at commit, before its own broadcast comes back
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChange(TaskChangeEvent event) {
+        bump(event);
+    }
+
+    @EventListener
+    public void onBroadcast(TaskChangeBroadcast broadcast) {
+        bump(broadcast.event());
+    }
+
+    private void bump(TaskChangeEvent event) {
+        if (event.before() != null && event.before().employeeId() != null) {
+            bump(event.before().employeeId());
+        }
+        if (event.after() != null && event.after().employeeId() != null) {
+            bump(event.after().employeeId());
+        }
+    }
+
+    // Last-Modified has second precision, so every change moves it at least one second
+    // past the previous value; otherwise two changes within a second would look like one
+    private void bump(Integer empId) {
+        versions.asMap().compute(empId, (id, old) -> {
+            Version next = newVersion();
+            if (old != null && !next.modified().isAfter(old.modified())) {
+                next = new Version(next.stamp(), old.modified().plusSeconds(1));
+            }
+            return next;
+        });
+    }
+
+    // rounded up: nothing the list contains can be newer than this
+    private Version newVersion() {
+        Instant modified = Instant.now().truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+        return new Version(sequence.incrementAndGet(), modified);
+    }
+}
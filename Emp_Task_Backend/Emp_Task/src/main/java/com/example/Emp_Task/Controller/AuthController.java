@@ -5,6 +5,8 @@ import com.example.Emp_Task.Service.AuthService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/auth")
 public class AuthController {
@@ -14,13 +16,13 @@ public class AuthController {
 
 
     @PostMapping("/signup")
-    public String SignUp(@RequestBody Employee emp) {
+    public CompletableFuture<String> SignUp(@RequestBody Employee emp) {
         return authService.register(emp);
     }
 
 
     @PostMapping("/signin")
-    public String Signin(@RequestBody Employee emp) {
+    public CompletableFuture<String> Signin(@RequestBody Employee emp) {
         return authService.login(emp.getEmail(), emp.getPassword());
     }
 }
@@ -1,5 +1,6 @@
 package com.example.Emp_Task.Controller;
 
+import com.example.Emp_Task.Dto.EmployeeView;
 import com.example.Emp_Task.Entity.Employee;
 
 import com.example.Emp_Task.Service.EmployeeService;
@@ -21,7 +22,7 @@ public class EmployeeController {
 
 
     @GetMapping("/allEmployees")
-    public List<Employee> getAllEmployees() {
+    public List<EmployeeView> getAllEmployees() {
         return employeeService.getAllEmployees();
     }
 
@@ -1,10 +1,36 @@
 package com.example.Emp_Task.Controller;
 
+import com.example.Emp_Task.Cache.TaskListVersions;
+import com.example.Emp_Task.Dto.BulkItemResult;
+import com.example.Emp_Task.Dto.TaskCalendar;
+import com.example.Emp_Task.Dto.TaskDashboard;
+import com.example.Emp_Task.Dto.TaskPage;
+import com.example.Emp_Task.Dto.TaskSearchHit;
+import com.example.Emp_Task.Dto.TaskView;
+import com.example.Emp_Task.Dto.TaskStats;
+import com.example.Emp_Task.Dto.TaskStatusChange;
 import com.example.Emp_Task.Entity.Task;
 
+import com.example.Emp_Task.Search.TaskSearchService;
+import com.example.Emp_Task.Security.Principals;
+import com.example.Emp_Task.Service.TaskCalendarService;
+import com.example.Emp_Task.Service.TaskDashboardService;
+import com.example.Emp_Task.Service.TaskExportService;
 import com.example.Emp_Task.Service.TaskService;
+import com.example.Emp_Task.Stats.TaskStatsService;
+import com.example.Emp_Task.Stream.TaskStreamHub;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -12,9 +38,26 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
-
-    public TaskController(TaskService taskService) {
+    private final TaskStatsService taskStatsService;
+    private final TaskStreamHub taskStreamHub;
+    private final TaskListVersions taskListVersions;
+    private final TaskExportService taskExportService;
+    private final TaskCalendarService taskCalendarService;
+    private final TaskSearchService taskSearchService;
+    private final TaskDashboardService taskDashboardService;
+
+    public TaskController(TaskService taskService, TaskStatsService taskStatsService,
+                          TaskStreamHub taskStreamHub, TaskListVersions taskListVersions,
+                          TaskExportService taskExportService, TaskCalendarService taskCalendarService,
+                          TaskSearchService taskSearchService, TaskDashboardService taskDashboardService) {
         this.taskService = taskService;
+        this.taskStatsService = taskStatsService;
+        this.taskStreamHub = taskStreamHub;
+        this.taskListVersions = taskListVersions;
+        this.taskExportService = taskExportService;
+        this.taskCalendarService = taskCalendarService;
+        this.taskSearchService = taskSearchService;
+        this.taskDashboardService = taskDashboardService;
     }
 
     //add task
@@ -23,10 +66,25 @@ public class TaskController {
         return taskService.addTask(empId, task);
     }
 
+    // The read endpoints below answer If-None-Match / If-Modified-Since with 304
+    // from the employee's list version, without running the query.
+
     //get all tasks
     @GetMapping("/employee/{empId}")
-    public List<Task> getTasks(@PathVariable Integer empId) {
-        return taskService.getTasksByEmployee(empId);
+    public ResponseEntity<List<TaskView>> getTasks(@PathVariable Integer empId, WebRequest request) {
+        return taskListVersions.conditional(request, empId, () -> taskService.getTasksByEmployee(empId));
+    }
+
+    // paged tasks: /tasks/employee/{empId}/page?cursor=&size=&order=asc|desc&status=
+    @GetMapping("/employee/{empId}/page")
+    public ResponseEntity<TaskPage<TaskView>> getTaskPage(@PathVariable Integer empId,
+                                                          @RequestParam(required = false) Integer cursor,
+                                                          @RequestParam(required = false) Integer size,
+                                                          @RequestParam(required = false) String order,
+                                                          @RequestParam(required = false) String status,
+                                                          WebRequest request) {
+        return taskListVersions.conditional(request, empId,
+                () -> taskService.getTaskPage(empId, status, cursor, size, order));
     }
 
     // update a task
@@ -36,6 +94,13 @@ public class TaskController {
     }
 
 
+    // change only the status: body {status, version}; 409 if the version is stale
+    @PatchMapping("/{taskId}/status")
+    public TaskStatusChange changeStatus(@PathVariable Integer taskId, @RequestBody TaskStatusChange change) {
+        return taskService.changeStatus(taskId, change);
+    }
+
+
     //delete a task
     @DeleteMapping("/{taskId}")
     public void deleteTask(@PathVariable Integer taskId) {
@@ -45,22 +110,136 @@ public class TaskController {
 
     // pending tasks
     @GetMapping("/pending/{empId}")
-    public List<Task> pendingTasks(@PathVariable Integer empId) {
-        return taskService.getPendingTasks(empId);
+    public ResponseEntity<List<TaskView>> pendingTasks(@PathVariable Integer empId, WebRequest request) {
+        return taskListVersions.conditional(request, empId, () -> taskService.getPendingTasks(empId));
     }
 
     // completed tasks
     @GetMapping("/completed/{empId}")
-    public List<Task> completedTasks(@PathVariable Integer empId) {
-        return taskService.getCompletedTasks(empId);
+    public ResponseEntity<List<TaskView>> completedTasks(@PathVariable Integer empId, WebRequest request) {
+        return taskListVersions.conditional(request, empId, () -> taskService.getCompletedTasks(empId));
+    }
+
+    // bulk add - one transaction, one result per task in request order
+    @PostMapping("/bulk/add/{empId}")
+    public List<BulkItemResult> addTasks(@PathVariable Integer empId, @RequestBody List<Task> tasks) {
+        return taskService.addTasks(empId, tasks);
+    }
+
+    // bulk update - each task must carry its id
+    @PutMapping("/bulk/update")
+    public List<BulkItemResult> updateTasks(@RequestBody List<Task> tasks) {
+        return taskService.updateTasks(tasks);
+    }
+
+    // bulk delete - body is a list of task ids
+    @PostMapping("/bulk/delete")
+    public List<BulkItemResult> deleteTasks(@RequestBody List<Integer> taskIds) {
+        return taskService.deleteTasks(taskIds);
+    }
+
+    // page load in one request: profile, counts and the first page of each status (?size= per status)
+    @GetMapping("/dashboard/{empId}")
+    public TaskDashboard dashboard(@PathVariable Integer empId, @RequestParam(required = false) Integer size) {
+        return taskDashboardService.getDashboard(empId, size);
+    }
+
+    // counts by status, overdue count and completions per day
+    @GetMapping("/stats/{empId}")
+    public TaskStats stats(@PathVariable Integer empId) {
+        return taskStatsService.getStats(empId);
+    }
+
+    // live task changes (server-sent events) for the signed-in employee's own list
+    @GetMapping(value = "/stream/{empId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable Integer empId, Authentication authentication) {
+        if (!empId.equals(authentication.getDetails())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Not your task stream");
+        }
+        return taskStreamHub.subscribe(empId);
+    }
+
+    // search descriptions: /tasks/search?q=quarterly report&empId=&status=&limit=20
+    @GetMapping("/search")
+    public List<TaskSearchHit> search(@RequestParam String q,
+                                      @RequestParam(required = false) Integer empId,
+                                      @RequestParam(required = false) String status,
+                                      @RequestParam(defaultValue = "20") int limit) {
+        return taskSearchService.search(q, empId, status, limit);
+    }
+
+    // calendar of one employee: /tasks/calendar/{empId}?from=2025-01-01&to=2025-01-31&bucket=day|week
+    @GetMapping("/calendar/{empId}")
+    public ResponseEntity<TaskCalendar> calendar(@PathVariable Integer empId,
+                                                 @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                 @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                 @RequestParam(defaultValue = "day") String bucket,
+                                                 WebRequest request) {
+        TaskCalendarService.Bucket calendarBucket = parseBucket(bucket);
+        return taskListVersions.conditional(request, empId,
+                () -> taskCalendarService.getCalendar(List.of(empId), from, to, calendarBucket));
+    }
+
+    // shared calendar of several employees: /tasks/calendar?empIds=1,2,3&from=&to=&bucket=
+    @GetMapping("/calendar")
+    public TaskCalendar teamCalendar(@RequestParam List<Integer> empIds,
+                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                     @RequestParam(defaultValue = "day") String bucket) {
+        return taskCalendarService.getCalendar(empIds, from, to, parseBucket(bucket));
+    }
+
+    private static TaskCalendarService.Bucket parseBucket(String bucket) {
+        try {
+            return TaskCalendarService.Bucket.valueOf(bucket.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "bucket must be day or week");
+        }
+    }
+
+    // export every task, streamed from the database: ?format=ndjson (default) or json. Admins only
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAll(@RequestParam(defaultValue = "ndjson") String format,
+                                                           Authentication authentication) {
+        if (!Principals.isAdmin(authentication)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Exporting all tasks needs the admin role");
+        }
+        return export(null, format);
+    }
+
+    // export one employee's tasks; their own, or anyone's for an admin
+    @GetMapping("/export/{empId}")
+    public ResponseEntity<StreamingResponseBody> exportEmployee(@PathVariable Integer empId,
+                                                                @RequestParam(defaultValue = "ndjson") String format,
+                                                                Authentication authentication) {
+        if (!Principals.actsFor(authentication, empId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Not your tasks");
+        }
+        return export(empId, format);
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(Integer empId, String format) {
+        TaskExportService.Format exportFormat;
+        try {
+            exportFormat = TaskExportService.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "format must be ndjson or json");
+        }
+        MediaType type = exportFormat == TaskExportService.Format.JSON
+                ? MediaType.APPLICATION_JSON
+                : MediaType.APPLICATION_NDJSON;
+        return ResponseEntity.ok()
+                .contentType(type)
+                .body(out -> taskExportService.export(empId, exportFormat, out));
     }
 
     // tasks by start date
     @GetMapping("/startdate/{date}/{empId}")
-    public List<Task> tasksByStartDate(@PathVariable String date,
-                                       @PathVariable Integer empId) {
+    public ResponseEntity<List<TaskView>> tasksByStartDate(@PathVariable String date,
+                                                           @PathVariable Integer empId,
+                                                           WebRequest request) {
 
-        return taskService.getTasksByStartDate(empId, date);
+        return taskListVersions.conditional(request, empId, () -> taskService.getTasksByStartDate(empId, date));
     }
 
 }
@@ -0,0 +1,48 @@
+package com.example.Emp_Task.Controller;
+
+import com.example.Emp_Task.Dto.PoolClaim;
+import com.example.Emp_Task.Entity.PoolTask;
+import com.example.Emp_Task.Entity.Task;
+import com.example.Emp_Task.Pool.TaskPoolService;
+import com.example.Emp_Task.Security.Principals;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/tasks/pool")
+public class TaskPoolController {
+
+    private final TaskPoolService taskPoolService;
+
+    public TaskPoolController(TaskPoolService taskPoolService) {
+        this.taskPoolService = taskPoolService;
+    }
+
+    // put an unassigned task into the pool: body {description, startDateTime, endDateTime}
+    @PostMapping
+    public PoolTask add(@RequestBody Task task) {
+        return taskPoolService.add(task);
+    }
+
+    // claim the next tasks for an employee: /tasks/pool/claim/{empId}?count=10.
+    // Employees claim for themselves; admins may hand tasks to anyone
+    @PostMapping("/claim/{empId}")
+    public List<PoolClaim> claim(@PathVariable Integer empId, @RequestParam(defaultValue = "1") int count,
+                                 Authentication authentication) {
+        if (!Principals.actsFor(authentication, empId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Not your claim");
+        }
+        return taskPoolService.claim(empId, count);
+    }
+
+    // extend the lease on a task the signed-in employee claimed; returns the new expiry
+    @PostMapping("/renew/{taskId}")
+    public LocalDateTime renew(@PathVariable Integer taskId, Authentication authentication) {
+        return taskPoolService.renew(taskId, (Integer) authentication.getDetails());
+    }
+}
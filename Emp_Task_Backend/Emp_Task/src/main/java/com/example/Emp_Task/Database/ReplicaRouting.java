@@ -0,0 +1,30 @@
+package com.example.Emp_Task.Database;
+
+import java.util.function.Supplier;
+
+// Forces reads onto the primary for code that must not see replica lag, e.g. loaders
+// that fill a cache right after an eviction. A no-op when no replicas are configured.
+public final class ReplicaRouting {
+
+    private static final ThreadLocal<int[]> PINNED = ThreadLocal.withInitial(() -> new int[1]);
+
+    private ReplicaRouting() {
+    }
+
+    // only affects transactions that start inside work; one already holding a replica connection keeps it
+    public static <T> T onPrimary(Supplier<T> work) {
+        int[] depth = PINNED.get();
+        depth[0]++;
+        try {
+            return work.get();
+        } finally {
+            if (--depth[0] == 0) {
+                PINNED.remove();
+            }
+        }
+    }
+
+    static boolean pinnedToPrimary() {
+        return PINNED.get()[0] > 0;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.Emp_Task.Database;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces Boot's single pool with a primary pool plus one pool per read replica
+ * when datasource.replicas.urls is set. Without it nothing here is created and all
+ * traffic goes to spring.datasource.url as before.
+ *
+ * Both kinds of pool are built here, so spring.datasource.hikari.* no longer applies
+ * beyond maximum-pool-size; pool metrics are still published as hikaricp.* per pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replicas.urls")
+public class ReplicaRoutingConfig {
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username:}")
+    private String username;
+
+    @Value("${spring.datasource.password:}")
+    private String password;
+
+    @Value("${spring.datasource.driver-class-name:}")
+    private String driverClassName;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int primaryPoolSize;
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            MeterRegistry meterRegistry,
+            @Value("${datasource.replicas.urls}") List<String> replicaUrls,
+            @Value("${datasource.replicas.username:${spring.datasource.username:}}") String replicaUsername,
+            @Value("${datasource.replicas.password:${spring.datasource.password:}}") String replicaPassword,
+            @Value("${datasource.replicas.pool-size:10}") int replicaPoolSize,
+            @Value("${datasource.replicas.connection-timeout:PT1S}") Duration replicaConnectionTimeout,
+            @Value("${datasource.replicas.sticky-window:PT5S}") Duration stickyWindow) {
+
+        DataSource primary = pool(ReplicaRoutingDataSource.PRIMARY, url, username, password,
+                primaryPoolSize, null, meterRegistry);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            String name = "replica-" + i;
+            // a short timeout, so a dead replica costs a read one second before it falls back
+            replicas.put(name, pool(name, replicaUrls.get(i).trim(), replicaUsername, replicaPassword,
+                    replicaPoolSize, replicaConnectionTimeout, meterRegistry));
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, stickyWindow);
+    }
+
+    // what JPA, Flyway and JdbcTemplate see
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routing) {
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private HikariDataSource pool(String name, String jdbcUrl, String user, String pass, int size,
+                                  Duration connectionTimeout, MeterRegistry meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(jdbcUrl);
+        config.setUsername(user);
+        config.setPassword(pass);
+        if (!driverClassName.isEmpty()) {
+            config.setDriverClassName(driverClassName);
+        }
+        config.setMaximumPoolSize(size);
+        if (connectionTimeout != null) {
+            config.setConnectionTimeout(connectionTimeout.toMillis());
+        }
+        // a replica that is down at startup must not stop the app; the health check finds it
+        config.setInitializationFailTimeout(-1);
+        config.setMetricRegistry(meterRegistry);
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.Emp_Task.Database;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+// Keeps monthly partitions of the tasks table (V8__PartitionTasksByMonth) existing months-ahead
+// into the future by splitting them off p_future, so new tasks never pile up in the catch-all.
+// Does nothing on databases that aren't partitioned.
+@Component
+public class TaskPartitionMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskPartitionMaintainer.class);
+
+    private final JdbcTemplate jdbc;
+    private final int monthsAhead;
+
+    public TaskPartitionMaintainer(JdbcTemplate jdbc, @Value("${tasks.partitions.months-ahead:3}") int monthsAhead) {
+        this.jdbc = jdbc;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${tasks.partitions.cron:0 30 3 * * *}")
+    public void ensurePartitions() {
+        try {
+            if (!isMySql()) {
+                return;
+            }
+            List<String> names = jdbc.queryForList("SELECT partition_name FROM information_schema.partitions "
+                    + "WHERE table_schema = DATABASE() AND table_name = 'tasks' AND partition_name IS NOT NULL", String.class);
+            if (!names.contains(TaskPartitions.FUTURE)) {
+                return;
+            }
+            YearMonth last = names.stream()
+                    .map(TaskPartitions::monthOf)
+                    .filter(Objects::nonNull)
+                    .max(YearMonth::compareTo)
+                    .orElse(YearMonth.now().minusMonths(1));
+            YearMonth target = YearMonth.now().plusMonths(monthsAhead);
+            if (!last.isBefore(target)) {
+                return;
+            }
+
+            List<String> partitions = new ArrayList<>(TaskPartitions.definitions(last.plusMonths(1), target));
+            partitions.add(TaskPartitions.futureDefinition());
+            jdbc.execute("ALTER TABLE tasks REORGANIZE PARTITION " + TaskPartitions.FUTURE
+                    + " INTO (" + String.join(", ", partitions) + ")");
+            log.info("Added task partitions up to {}", TaskPartitions.name(target));
+        } catch (DataAccessException e) {
+            // another node may have just done the same; the next run sees its partitions
+            log.warn("Could not extend task partitions: {}", e.getMessage());
+        }
+    }
+
+    private boolean isMySql() {
+        return "MySQL".equalsIgnoreCase(jdbc.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName()));
+    }
+}
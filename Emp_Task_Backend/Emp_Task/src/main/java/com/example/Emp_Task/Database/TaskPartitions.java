@@ -0,0 +1,50 @@
+package com.example.Emp_Task.Database;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+// Naming and bounds of the monthly RANGE COLUMNS partitions of the tasks table (MySQL only).
+// Partition p202501 holds tasks starting in January 2025; p_old everything before the first
+// month, p_future everything after the last one.
+final class TaskPartitions {
+
+    static final String OLD = "p_old";
+    static final String FUTURE = "p_future";
+
+    private static final DateTimeFormatter NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private TaskPartitions() {
+    }
+
+    static String name(YearMonth month) {
+        return month.format(NAME);
+    }
+
+    // null for p_old / p_future and anything else not created here
+    static YearMonth monthOf(String partitionName) {
+        try {
+            return YearMonth.parse(partitionName, NAME);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    static String definition(YearMonth month) {
+        return "PARTITION " + name(month) + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+
+    // one partition per month from first to last, both included
+    static List<String> definitions(YearMonth first, YearMonth last) {
+        List<String> parts = new ArrayList<>();
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            parts.add(definition(month));
+        }
+        return parts;
+    }
+
+    static String futureDefinition() {
+        return "PARTITION " + FUTURE + " VALUES LESS THAN (MAXVALUE)";
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.Emp_Task.Database;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Partitions the tasks table by start month on MySQL, so completed months can be
+ * pruned from queries and archived without touching the hot rows. The partition
+ * list depends on the data, hence a Java migration (picked up by Flyway as a bean).
+ * <p>
+ * InnoDB puts three conditions on a partitioned table, all applied here:
+ * the partitioning column must be part of every unique key (the primary key becomes
+ * (id, start_date_time) - ids stay unique through the id_generators table), it must be
+ * NOT NULL (tasks without a start get their end or the current time), and the table
+ * cannot have foreign keys (the employee FK is dropped; EmployeeService checks for
+ * remaining tasks before deleting an employee).
+ * <p>
+ * Other databases (H2 in the tests) have no such partitioning and skip this migration.
+ */
+@Component
+public class V8__PartitionTasksByMonth extends BaseJavaMigration {
+
+    // older months share p_old instead of one partition each
+    private static final int MAX_PAST_MONTHS = 36;
+    private static final int MONTHS_AHEAD = 3;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        if (!"MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+            return;
+        }
+
+        YearMonth now = YearMonth.now();
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE tasks SET start_date_time = COALESCE(end_date_time, completed_at, NOW(6)) "
+                    + "WHERE start_date_time IS NULL");
+
+            YearMonth first = now;
+            try (ResultSet rs = statement.executeQuery("SELECT MIN(start_date_time) FROM tasks")) {
+                Timestamp min = rs.next() ? rs.getTimestamp(1) : null;
+                if (min != null && YearMonth.from(min.toLocalDateTime()).isBefore(now)) {
+                    first = YearMonth.from(min.toLocalDateTime());
+                }
+            }
+            if (first.isBefore(now.minusMonths(MAX_PAST_MONTHS))) {
+                first = now.minusMonths(MAX_PAST_MONTHS);
+            }
+
+            // the FK name differs between V1 and databases baselined from ddl-auto=update
+            List<String> foreignKeys = new ArrayList<>();
+            try (ResultSet rs = statement.executeQuery("SELECT constraint_name FROM information_schema.referential_constraints "
+                    + "WHERE constraint_schema = DATABASE() AND table_name = 'tasks'")) {
+                while (rs.next()) {
+                    foreignKeys.add(rs.getString(1));
+                }
+            }
+            for (String foreignKey : foreignKeys) {
+                statement.execute("ALTER TABLE tasks DROP FOREIGN KEY `" + foreignKey + "`");
+            }
+
+            statement.execute("ALTER TABLE tasks MODIFY start_date_time DATETIME(6) NOT NULL, "
+                    + "DROP PRIMARY KEY, ADD PRIMARY KEY (id, start_date_time)");
+
+            List<String> partitions = new ArrayList<>();
+            partitions.add("PARTITION " + TaskPartitions.OLD + " VALUES LESS THAN ('" + first.atDay(1) + "')");
+            partitions.addAll(TaskPartitions.definitions(first, now.plusMonths(MONTHS_AHEAD)));
+            partitions.add(TaskPartitions.futureDefinition());
+            statement.execute("ALTER TABLE tasks PARTITION BY RANGE COLUMNS (start_date_time) ("
+                    + String.join(", ", partitions) + ")");
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.Emp_Task.Deadline;
+
+// Makes sure one node fires a given deadline even though every node schedules it.
+public interface DeadlineClaims {
+
+    // true for exactly one caller per (task, deadline)
+    boolean claim(Integer taskId, long dueMillis);
+}
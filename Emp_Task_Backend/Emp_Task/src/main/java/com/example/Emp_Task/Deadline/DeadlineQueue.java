@@ -0,0 +1,87 @@
+package com.example.Emp_Task.Deadline;
+
+import com.example.Emp_Task.Event.TaskSnapshot;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Min-heap of task deadlines. Rescheduling or cancelling a task doesn't search the
+ * heap: the map says which entry is current and stale entries are skipped when they
+ * reach the top (and compacted away if they pile up). Not thread-safe.
+ */
+final class DeadlineQueue {
+
+    private record Entry(long dueMillis, TaskSnapshot task, long seq) {
+    }
+
+    private static final Comparator<Entry> ORDER =
+            Comparator.comparingLong(Entry::dueMillis).thenComparingLong(Entry::seq);
+
+    private final PriorityQueue<Entry> heap = new PriorityQueue<>(ORDER);
+    private final Map<Integer, Entry> current = new HashMap<>();
+    private long seq;
+
+    // false if an equal or newer version of the task is already scheduled
+    boolean schedule(TaskSnapshot task, long dueMillis) {
+        Entry existing = current.get(task.id());
+        if (existing != null && version(existing.task()) > version(task)) {
+            return false;
+        }
+        Entry entry = new Entry(dueMillis, task, seq++);
+        current.put(task.id(), entry);
+        heap.add(entry);
+        compactIfNeeded();
+        return true;
+    }
+
+    void cancel(Integer taskId) {
+        current.remove(taskId);
+        compactIfNeeded();
+    }
+
+    // Long.MAX_VALUE when nothing is scheduled
+    long nextDueMillis() {
+        dropStaleHead();
+        Entry head = heap.peek();
+        return head == null ? Long.MAX_VALUE : head.dueMillis();
+    }
+
+    List<TaskSnapshot> pollDue(long nowMillis) {
+        List<TaskSnapshot> due = new ArrayList<>();
+        dropStaleHead();
+        while (!heap.isEmpty() && heap.peek().dueMillis() <= nowMillis) {
+            Entry entry = heap.poll();
+            if (current.remove(entry.task().id(), entry)) {
+                due.add(entry.task());
+            }
+            dropStaleHead();
+        }
+        return due;
+    }
+
+    int size() {
+        return current.size();
+    }
+
+    private void dropStaleHead() {
+        while (!heap.isEmpty() && current.get(heap.peek().task().id()) != heap.peek()) {
+            heap.poll();
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (heap.size() > 2 * current.size() + 1024) {
+            heap.clear();
+            heap.addAll(current.values());
+        }
+    }
+
+    private static long version(TaskSnapshot task) {
+        return task.version() == null ? -1 : task.version();
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.Emp_Task.Deadline;
+
+import com.example.Emp_Task.Event.TaskChangeBroadcast;
+import com.example.Emp_Task.Event.TaskDeadlinePassedEvent;
+import com.example.Emp_Task.Event.TaskSnapshot;
+import com.example.Emp_Task.Repository.TaskRepository;
+import com.example.Emp_Task.Service.TaskService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Fires a {@link TaskDeadlinePassedEvent} when an open task's endDateTime passes.
+ * Open deadlines are loaded once at startup and then kept in a {@link DeadlineQueue}
+ * from task change broadcasts - there is no polling of the tasks table. One thread
+ * sleeps until the earliest deadline (or until an earlier one is scheduled). Every
+ * node schedules every deadline; {@link DeadlineClaims} decides which node fires it.
+ */
+@Component
+public class DeadlineScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(DeadlineScheduler.class);
+
+    // endDateTime is a local time, read in the server's zone like the rest of the app
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private final DeadlineQueue queue = new DeadlineQueue();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate readOnlyTx;
+    private final DeadlineClaims claims;
+    private final ApplicationEventPublisher events;
+    private final Duration catchUp;
+    private final Counter fired;
+
+    private volatile Thread worker;
+
+    public DeadlineScheduler(TaskRepository taskRepository, PlatformTransactionManager transactionManager,
+                             DeadlineClaims claims, ApplicationEventPublisher events, MeterRegistry meterRegistry,
+                             @Value("${tasks.deadlines.catch-up:PT1H}") Duration catchUp) {
+        this.taskRepository = taskRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.claims = claims;
+        this.events = events;
+        this.catchUp = catchUp;
+        this.fired = Counter.builder("tasks.deadlines.fired").register(meterRegistry);
+        Gauge.builder("tasks.deadlines.scheduled", this, DeadlineScheduler::scheduledCount).register(meterRegistry);
+    }
+
+    // deadlines missed while no node was running are fired if they are within the catch-up window
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        LocalDateTime since = LocalDateTime.now().minus(catchUp);
+        readOnlyTx.executeWithoutResult(status -> {
+            try (Stream<TaskSnapshot> open = taskRepository.streamOpenDeadlinesAfter(since)) {
+                open.forEach(this::schedule);
+            }
+        });
+        log.info("Deadline scheduler started with {} open deadlines", scheduledCount());
+
+        worker = new Thread(this::run, "task-deadlines");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        Thread t = worker;
+        if (t != null) {
+            t.interrupt();
+        }
+    }
+
+    @EventListener
+    public void onBroadcast(TaskChangeBroadcast broadcast) {
+        TaskSnapshot before = broadcast.event().before();
+        TaskSnapshot after = broadcast.event().after();
+        if (after == null) {
+            cancel(before.id());
+        } else if (!keepsPassedDeadline(before, after)) {
+            schedule(after);
+        }
+    }
+
+    // an edit of an open task that leaves an already passed deadline as it was: that deadline
+    // has fired (or is still queued), and scheduling it again would fire it a second time
+    private static boolean keepsPassedDeadline(TaskSnapshot before, TaskSnapshot after) {
+        return before != null
+                && after.endDateTime() != null
+                && !TaskService.COMPLETED.equals(after.status())
+                && Objects.equals(before.endDateTime(), after.endDateTime())
+                && !after.endDateTime().isAfter(LocalDateTime.now());
+    }
+
+    void schedule(TaskSnapshot task) {
+        if (task.endDateTime() == null || TaskService.COMPLETED.equals(task.status())) {
+            cancel(task.id());
+            return;
+        }
+        long due = task.endDateTime().atZone(zone).toInstant().toEpochMilli();
+        lock.lock();
+        try {
+            long before = queue.nextDueMillis();
+            if (queue.schedule(task, due) && due < before) {
+                changed.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void cancel(Integer taskId) {
+        lock.lock();
+        try {
+            queue.cancel(taskId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int scheduledCount() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            List<TaskSnapshot> due;
+            lock.lock();
+            try {
+                long wait = queue.nextDueMillis() - System.currentTimeMillis();
+                if (wait > 0) {
+                    changed.await(Math.min(wait, TimeUnit.HOURS.toMillis(1)), TimeUnit.MILLISECONDS);
+                    continue;
+                }
+                due = queue.pollDue(System.currentTimeMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            // outside the lock, so schedule/cancel from request threads never wait on listeners
+            for (TaskSnapshot task : due) {
+                fire(task);
+            }
+        }
+    }
+
+    private void fire(TaskSnapshot task) {
+        long due = task.endDateTime().atZone(zone).toInstant().toEpochMilli();
+        if (!claims.claim(task.id(), due)) {
+            return;
+        }
+        try {
+            events.publishEvent(new TaskDeadlinePassedEvent(task, Instant.now()));
+            fired.increment();
+        } catch (RuntimeException e) {
+            log.warn("Deadline listener failed for task {}: {}", task.id(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.Emp_Task.Deadline;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Single node (cluster.redis.enabled=false): nobody else can fire the deadline, but the
+// same (task, deadline) can come round again, so the ones already fired are remembered.
+@Component
+@ConditionalOnProperty(name = "cluster.redis.enabled", havingValue = "false")
+public class LocalDeadlineClaims implements DeadlineClaims {
+
+    private final Cache<String, Boolean> claimed;
+
+    public LocalDeadlineClaims(@Value("${tasks.deadlines.claim-ttl:P90D}") Duration claimTtl) {
+        this.claimed = Caffeine.newBuilder()
+                .expireAfterWrite(claimTtl)
+                .build();
+    }
+
+    @Override
+    public boolean claim(Integer taskId, long dueMillis) {
+        return claimed.asMap().putIfAbsent(taskId + ":" + dueMillis, Boolean.TRUE) == null;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.Emp_Task.Deadline;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConditionalOnProperty(name = "cluster.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisDeadlineClaims implements DeadlineClaims {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisDeadlineClaims.class);
+
+    private final RedisTemplate<Object, Object> redisTemplate;
+    // as long as a task typically stays open, so a claimed deadline isn't fired again while
+    // its task is still around
+    private final Duration claimTtl;
+
+    public RedisDeadlineClaims(RedisTemplate<Object, Object> redisTemplate,
+                               @Value("${tasks.deadlines.claim-ttl:P90D}") Duration claimTtl) {
+        this.redisTemplate = redisTemplate;
+        this.claimTtl = claimTtl;
+    }
+
+    @Override
+    public boolean claim(Integer taskId, long dueMillis) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent("deadline:" + taskId + ":" + dueMillis, Boolean.TRUE, claimTtl));
+        } catch (RuntimeException e) {
+            // a duplicate reminder is better than none
+            log.warn("Deadline claim failed for task {}, firing anyway: {}", taskId, e.getMessage());
+            return true;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.Emp_Task.Dto;
+
+// Outcome of one element of a bulk request, in request order.
+public record BulkItemResult(
+        int index,
+        Integer id,
+        boolean success,
+        String error
+) {
+
+    public static BulkItemResult ok(int index, Integer id) {
+        return new BulkItemResult(index, id, true, null);
+    }
+
+    public static BulkItemResult failed(int index, Integer id, String error) {
+        return new BulkItemResult(index, id, false, error);
+    }
+}
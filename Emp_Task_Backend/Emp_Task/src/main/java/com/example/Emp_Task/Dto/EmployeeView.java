@@ -0,0 +1,9 @@
+package com.example.Emp_Task.Dto;
+
+// Public employee fields - never the password.
+public record EmployeeView(
+        Integer id,
+        String name,
+        String email
+) {
+}
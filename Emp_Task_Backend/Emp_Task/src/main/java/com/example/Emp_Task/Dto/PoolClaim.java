@@ -0,0 +1,12 @@
+package com.example.Emp_Task.Dto;
+
+import java.time.LocalDateTime;
+
+// A pool task handed to an employee: the task created for them and how long the claim holds
+// unless renewed (POST /tasks/pool/renew/{taskId}) or the task is completed.
+public record PoolClaim(
+        Long poolId,
+        TaskView task,
+        LocalDateTime leaseExpiresAt
+) {
+}
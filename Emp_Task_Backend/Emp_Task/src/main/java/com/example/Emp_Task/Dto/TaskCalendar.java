@@ -0,0 +1,22 @@
+package com.example.Emp_Task.Dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// GET /tasks/calendar - every day (or ISO week) of [from, to] with the tasks overlapping it.
+// Each task is sent once, in start order; a bucket lists the ids of the tasks it holds, so a
+// task spanning many days costs an id per day rather than a copy per day.
+public record TaskCalendar(
+        LocalDate from,
+        LocalDate to,
+        String bucket,
+        List<TaskView> tasks,
+        List<Bucket> buckets
+) {
+
+    public record Bucket(
+            LocalDate start,
+            List<Integer> taskIds
+    ) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.Emp_Task.Dto;
+
+import java.util.Map;
+
+// GET /tasks/dashboard/{empId}: everything the SPA needs on load in one response.
+// tasks has the first page of each status; nextCursor continues it on
+// /tasks/employee/{empId}/page?status=...
+public record TaskDashboard(
+        EmployeeView profile,
+        TaskStats counts,
+        Map<String, TaskPage<TaskView>> tasks
+) {
+}
@@ -0,0 +1,10 @@
+package com.example.Emp_Task.Dto;
+
+// One change pushed on /tasks/stream/{empId}. task is the new state, null when
+// the task was deleted or moved to another employee - the client drops taskId.
+public record TaskDelta(
+        String type,
+        Integer taskId,
+        TaskView task
+) {
+}
@@ -0,0 +1,13 @@
+package com.example.Emp_Task.Dto;
+
+import java.util.List;
+
+// One keyset page of tasks. nextCursor is the id to pass back as ?cursor=
+// to get the following page, or null when there is nothing left.
+public record TaskPage<T>(
+        List<T> items,
+        int size,
+        String order,
+        Integer nextCursor
+) {
+}
@@ -0,0 +1,8 @@
+package com.example.Emp_Task.Dto;
+
+// GET /tasks/search - one matching task and its relevance score (higher is better)
+public record TaskSearchHit(
+        TaskView task,
+        double score
+) {
+}
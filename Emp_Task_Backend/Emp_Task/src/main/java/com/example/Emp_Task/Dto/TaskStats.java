@@ -0,0 +1,14 @@
+package com.example.Emp_Task.Dto;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+// GET /tasks/stats/{empId}
+public record TaskStats(
+        Integer employeeId,
+        long total,
+        Map<String, Long> countsByStatus,
+        long overdue,
+        Map<LocalDate, Long> completedPerDay
+) {
+}
@@ -0,0 +1,10 @@
+package com.example.Emp_Task.Dto;
+
+// PATCH /tasks/{taskId}/status body ({status, version}) and response ({id, status, version}).
+// version is the one the client last saw; the response carries the new one.
+public record TaskStatusChange(
+        Integer id,
+        String status,
+        Long version
+) {
+}
@@ -0,0 +1,25 @@
+package com.example.Emp_Task.Dto;
+
+import com.example.Emp_Task.Event.TaskSnapshot;
+
+import java.time.LocalDateTime;
+
+// What the task endpoints return: the task's own columns plus the owner's id,
+// selected directly by TaskRepository without touching the employees table.
+public record TaskView(
+        Integer id,
+        String description,
+        String status,
+        LocalDateTime startDateTime,
+        LocalDateTime endDateTime,
+        LocalDateTime completedAt,
+        Long version,
+        Integer employeeId
+) {
+
+    public static TaskView of(TaskSnapshot snapshot) {
+        return new TaskView(snapshot.id(), snapshot.description(), snapshot.status(),
+                snapshot.startDateTime(), snapshot.endDateTime(), snapshot.completedAt(),
+                snapshot.version(), snapshot.employeeId());
+    }
+}
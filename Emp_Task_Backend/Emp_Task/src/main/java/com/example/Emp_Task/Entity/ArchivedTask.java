@@ -0,0 +1,80 @@
+package com.example.Emp_Task.Entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+// A COMPLETED task moved out of tasks by TaskArchiver (V9__tasks_archive.sql).
+// Rows are written with INSERT ... SELECT and only ever read afterwards.
+@Entity
+@Immutable
+@Table(name = "tasks_archive", indexes = {
+        @Index(name = "idx_tasks_archive_employee", columnList = "employee_id"),
+        @Index(name = "idx_tasks_archive_employee_start", columnList = "employee_id, start_date_time"),
+        @Index(name = "idx_tasks_archive_employee_end", columnList = "employee_id, end_date_time, start_date_time")
+})
+public class ArchivedTask {
+
+    @Id
+    private Integer id;
+
+    private String description;
+
+    @Column(nullable = false)
+    private String status;
+
+    private LocalDateTime startDateTime;
+
+    private LocalDateTime endDateTime;
+
+    private LocalDateTime completedAt;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(nullable = false)
+    private Integer employeeId;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    protected ArchivedTask() {
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getStartDateTime() {
+        return startDateTime;
+    }
+
+    public LocalDateTime getEndDateTime() {
+        return endDateTime;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public Integer getEmployeeId() {
+        return employeeId;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
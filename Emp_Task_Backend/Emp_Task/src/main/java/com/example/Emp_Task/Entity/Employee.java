@@ -1,10 +1,15 @@
 package com.example.Emp_Task.Entity;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 
+import java.io.Serializable;
+
 @Entity
 @Table(name = "employees")
-public class Employee {
+public class Employee implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -15,8 +20,12 @@ public class Employee {
     @Column(unique = true)
     private String email;
 
+    // accepted on signup/signin, never written into a response
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private String password;
 
+    // SMS notifications go here; null means none are sent
+    private String phone;
 
 
     public Employee() {}
@@ -40,5 +49,8 @@ public class Employee {
     public String getPassword() { return password; }
     public void setPassword(String password) { this.password = password; }
 
+    public String getPhone() { return phone; }
+    public void setPhone(String phone) { this.phone = phone; }
+
 
 }
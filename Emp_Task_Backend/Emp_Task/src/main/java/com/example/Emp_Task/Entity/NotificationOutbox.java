@@ -0,0 +1,139 @@
+package com.example.Emp_Task.Entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_outbox_status_next", columnList = "status, next_attempt_at")
+})
+public class NotificationOutbox {
+
+    public static final String PENDING = "PENDING";
+    public static final String SENDING = "SENDING";
+    public static final String SENT = "SENT";
+    public static final String FAILED = "FAILED";
+    public static final String SKIPPED = "SKIPPED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Integer employeeId;
+
+    // TASK_ASSIGNED or DEADLINE_PASSED
+    @Column(nullable = false, length = 32)
+    private String kind;
+
+    private Integer taskId;
+
+    // task description at the time of the event
+    private String detail;
+
+    @Column(nullable = false, length = 16)
+    private String status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // a SENDING row whose claim ran out (the node died mid-send) is picked up again
+    private LocalDateTime claimedUntil;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+
+    private String lastError;
+
+    public NotificationOutbox() {
+    }
+
+    public NotificationOutbox(Integer employeeId, String kind, Integer taskId, String detail, LocalDateTime notBefore) {
+        LocalDateTime now = LocalDateTime.now();
+        this.employeeId = employeeId;
+        this.kind = kind;
+        this.taskId = taskId;
+        this.detail = detail != null && detail.length() > 255 ? detail.substring(0, 255) : detail;
+        this.status = PENDING;
+        this.nextAttemptAt = notBefore;
+        this.createdAt = now;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Integer getEmployeeId() {
+        return employeeId;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public Integer getTaskId() {
+        return taskId;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public LocalDateTime getClaimedUntil() {
+        return claimedUntil;
+    }
+
+    public void setClaimedUntil(LocalDateTime claimedUntil) {
+        this.claimedUntil = claimedUntil;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getSentAt() {
+        return sentAt;
+    }
+
+    public void setSentAt(LocalDateTime sentAt) {
+        this.sentAt = sentAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError != null && lastError.length() > 255 ? lastError.substring(0, 255) : lastError;
+    }
+}
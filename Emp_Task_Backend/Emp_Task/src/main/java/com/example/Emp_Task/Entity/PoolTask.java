@@ -0,0 +1,121 @@
+package com.example.Emp_Task.Entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// A task nobody owns yet, waiting in the shared pool (V10__task_pool.sql) to be claimed.
+@Entity
+@Table(name = "task_pool", indexes = {
+        @Index(name = "idx_task_pool_status_lease", columnList = "status, lease_expires_at"),
+        @Index(name = "idx_task_pool_task", columnList = "task_id")
+})
+public class PoolTask {
+
+    public static final String OPEN = "OPEN";
+    public static final String CLAIMED = "CLAIMED";
+    public static final String DONE = "DONE";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String description;
+
+    private LocalDateTime startDateTime;
+
+    private LocalDateTime endDateTime;
+
+    @Column(nullable = false, length = 16)
+    private String status;
+
+    // while CLAIMED: the claimer and the task created for them
+    private Integer claimedBy;
+
+    private Integer taskId;
+
+    private LocalDateTime leaseExpiresAt;
+
+    // how often it was claimed; more than one means earlier leases ran out
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public PoolTask() {
+    }
+
+    public PoolTask(String description, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        this.description = description;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+        this.status = OPEN;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // the task a claim hands out; TaskService fills in owner, status and a missing start
+    public Task toTask() {
+        return new Task(description, null, startDateTime, endDateTime, null);
+    }
+
+    public void claim(Integer employeeId, Integer taskId, LocalDateTime leaseExpiresAt) {
+        this.status = CLAIMED;
+        this.claimedBy = employeeId;
+        this.taskId = taskId;
+        this.leaseExpiresAt = leaseExpiresAt;
+        this.attempts++;
+    }
+
+    public void requeue() {
+        this.status = OPEN;
+        this.claimedBy = null;
+        this.taskId = null;
+        this.leaseExpiresAt = null;
+    }
+
+    public void done() {
+        this.status = DONE;
+        this.leaseExpiresAt = null;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public LocalDateTime getStartDateTime() {
+        return startDateTime;
+    }
+
+    public LocalDateTime getEndDateTime() {
+        return endDateTime;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Integer getClaimedBy() {
+        return claimedBy;
+    }
+
+    public Integer getTaskId() {
+        return taskId;
+    }
+
+    public LocalDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
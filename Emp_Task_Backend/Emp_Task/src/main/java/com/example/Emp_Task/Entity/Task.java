@@ -1,14 +1,26 @@
 package com.example.Emp_Task.Entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_employee_status", columnList = "employee_id, status"),
+        @Index(name = "idx_tasks_employee_start", columnList = "employee_id, start_date_time"),
+        @Index(name = "idx_tasks_status_end", columnList = "status, end_date_time"),
+        @Index(name = "idx_tasks_employee_end", columnList = "employee_id, end_date_time, start_date_time")
+})
 public class Task {
 
+    // table-backed pooled ids (V3__task_id_generator.sql): unlike IDENTITY they are known
+    // before the INSERT, which lets Hibernate send inserts as JDBC batches
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "task_id")
+    @TableGenerator(name = "task_id", table = "id_generators",
+            pkColumnName = "gen_name", valueColumnName = "gen_value",
+            pkColumnValue = "tasks", allocationSize = 50)
     private Integer id;
 
     private String description;
@@ -20,8 +32,15 @@ public class Task {
 
     private LocalDateTime endDateTime;
 
+    private LocalDateTime completedAt;
 
-    @ManyToOne
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // lazy: reading a task never needs the employee row; JSON carries only employeeId
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id", nullable = false)
     private Employee employee;
 
@@ -79,10 +98,32 @@ public class Task {
         this.endDateTime = endDateTime;
     }
 
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public Employee getEmployee() {
         return employee;
     }
 
+    // the FK value; on a lazy proxy getId() does not initialize it
+    @JsonProperty(value = "employeeId", access = JsonProperty.Access.READ_ONLY)
+    public Integer getEmployeeId() {
+        return employee == null ? null : employee.getId();
+    }
+
     public void setEmployee(Employee employee) {
         this.employee = employee;
     }
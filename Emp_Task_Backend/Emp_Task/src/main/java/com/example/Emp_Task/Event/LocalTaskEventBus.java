@@ -0,0 +1,22 @@
+package com.example.Emp_Task.Event;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// Single-node stand-in for the Redis bus, used when cluster.redis.enabled=false.
+@Component
+@ConditionalOnProperty(name = "cluster.redis.enabled", havingValue = "false")
+public class LocalTaskEventBus implements TaskEventBus {
+
+    private final ApplicationEventPublisher events;
+
+    public LocalTaskEventBus(ApplicationEventPublisher events) {
+        this.events = events;
+    }
+
+    @Override
+    public void publish(TaskChangeEvent event) {
+        events.publishEvent(new TaskChangeBroadcast(event));
+    }
+}
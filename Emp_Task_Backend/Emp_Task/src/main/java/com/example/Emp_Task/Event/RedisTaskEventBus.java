@@ -0,0 +1,33 @@
+package com.example.Emp_Task.Event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "cluster.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisTaskEventBus implements TaskEventBus {
+
+    public static final String CHANNEL = "task-changes";
+
+    private static final Logger log = LoggerFactory.getLogger(RedisTaskEventBus.class);
+
+    private final RedisTemplate<Object, Object> redisTemplate;
+
+    public RedisTaskEventBus(RedisTemplate<Object, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    // this node gets its own message back through the subscription, like every other node
+    @Override
+    public void publish(TaskChangeEvent event) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, event);
+        } catch (RuntimeException e) {
+            log.warn("Could not publish task change for task {}: {}",
+                    event.after() != null ? event.after().id() : event.before().id(), e.getMessage());
+        }
+    }
+}
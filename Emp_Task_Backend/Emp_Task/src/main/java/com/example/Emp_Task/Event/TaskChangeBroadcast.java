@@ -0,0 +1,9 @@
+package com.example.Emp_Task.Event;
+
+/**
+ * A committed {@link TaskChangeEvent} as seen by every node, including the one that
+ * made the change. Published locally by the {@link TaskEventBus} implementation;
+ * listen for this (not TaskChangeEvent) when every node has to react.
+ */
+public record TaskChangeBroadcast(TaskChangeEvent event) {
+}
@@ -0,0 +1,41 @@
+package com.example.Emp_Task.Event;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Published by TaskService for every task write. {@code before} is null for
+ * CREATED and {@code after} is null for DELETED. Listeners that keep derived
+ * state should use {@code @TransactionalEventListener} so they only see
+ * committed changes.
+ */
+public record TaskChangeEvent(
+        Type type,
+        TaskSnapshot before,
+        TaskSnapshot after,
+        Instant occurredAt
+) implements Serializable {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static TaskChangeEvent created(TaskSnapshot after) {
+        return new TaskChangeEvent(Type.CREATED, null, after, Instant.now());
+    }
+
+    public static TaskChangeEvent updated(TaskSnapshot before, TaskSnapshot after) {
+        return new TaskChangeEvent(Type.UPDATED, before, after, Instant.now());
+    }
+
+    public static TaskChangeEvent deleted(TaskSnapshot before) {
+        return new TaskChangeEvent(Type.DELETED, before, null, Instant.now());
+    }
+
+    // the employee whose task list changed (the new owner if a task moved)
+    public Integer employeeId() {
+        return after != null ? after.employeeId() : before.employeeId();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.Emp_Task.Event;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Published by the deadline scheduler when an open task's endDateTime passes.
+ * Exactly one node publishes it per deadline (see DeadlineClaims); {@code task}
+ * is the task as it was when the deadline was scheduled.
+ */
+public record TaskDeadlinePassedEvent(
+        TaskSnapshot task,
+        Instant firedAt
+) implements Serializable {
+}
@@ -0,0 +1,8 @@
+package com.example.Emp_Task.Event;
+
+// Fans committed task changes out to every node. Each node turns what it receives
+// into a TaskChangeBroadcast application event. Delivery is best effort.
+public interface TaskEventBus {
+
+    void publish(TaskChangeEvent event);
+}
@@ -0,0 +1,31 @@
+package com.example.Emp_Task.Event;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@ConditionalOnProperty(name = "cluster.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskEventConfig {
+
+    // every node turns the cluster-wide task changes into local TaskChangeBroadcast events
+    @Bean
+    public RedisMessageListenerContainer taskEventListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                    RedisTemplate<Object, Object> redisTemplate,
+                                                                    ApplicationEventPublisher events) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (body instanceof TaskChangeEvent event) {
+                events.publishEvent(new TaskChangeBroadcast(event));
+            }
+        }, new ChannelTopic(RedisTaskEventBus.CHANNEL));
+        return container;
+    }
+}
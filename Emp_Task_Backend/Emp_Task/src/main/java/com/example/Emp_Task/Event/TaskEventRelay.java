@@ -0,0 +1,20 @@
+package com.example.Emp_Task.Event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Hands committed task changes to the bus; rolled back writes never leave the node.
+@Component
+public class TaskEventRelay {
+
+    private final TaskEventBus bus;
+
+    public TaskEventRelay(TaskEventBus bus) {
+        this.bus = bus;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChange(TaskChangeEvent event) {
+        bus.publish(event);
+    }
+}
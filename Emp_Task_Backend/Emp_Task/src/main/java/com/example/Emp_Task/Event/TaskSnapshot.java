@@ -0,0 +1,38 @@
+package com.example.Emp_Task.Event;
+
+import com.example.Emp_Task.Entity.Task;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+// Immutable copy of a task's columns at one point in time, safe to hand to
+// listeners on other threads (and, later, other nodes).
+public record TaskSnapshot(
+        Integer id,
+        Integer employeeId,
+        String description,
+        String status,
+        LocalDateTime startDateTime,
+        LocalDateTime endDateTime,
+        LocalDateTime completedAt,
+        Long version
+) implements Serializable {
+
+    public static TaskSnapshot of(Task task) {
+        return new TaskSnapshot(
+                task.getId(),
+                task.getEmployee() == null ? null : task.getEmployee().getId(),
+                task.getDescription(),
+                task.getStatus(),
+                task.getStartDateTime(),
+                task.getEndDateTime(),
+                task.getCompletedAt(),
+                task.getVersion()
+        );
+    }
+
+    public TaskSnapshot withStatus(String newStatus, LocalDateTime newCompletedAt, Long newVersion) {
+        return new TaskSnapshot(id, employeeId, description, newStatus,
+                startDateTime, endDateTime, newCompletedAt, newVersion);
+    }
+}
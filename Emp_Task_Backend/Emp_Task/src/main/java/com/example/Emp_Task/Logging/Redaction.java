@@ -0,0 +1,29 @@
+package com.example.Emp_Task.Logging;
+
+// Helpers for keeping credentials out of log lines.
+public final class Redaction {
+
+    private static final int VISIBLE_PREFIX = 6;
+
+    private Redaction() {
+    }
+
+    // "eyJhbG...[redacted, 171 chars]" - enough to correlate two log lines, useless as a credential
+    public static String token(String token) {
+        if (token == null) {
+            return "null";
+        }
+        if (token.length() <= VISIBLE_PREFIX) {
+            return "[redacted]";
+        }
+        return token.substring(0, VISIBLE_PREFIX) + "...[redacted, " + token.length() + " chars]";
+    }
+
+    public static String authHeader(String header) {
+        if (header == null) {
+            return "null";
+        }
+        int space = header.lastIndexOf(' ');
+        return space < 0 ? token(header) : header.substring(0, space + 1) + token(header.substring(space + 1));
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.Emp_Task.Logging;
+
+import org.slf4j.Logger;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Debug logging for hot paths: when DEBUG is on, only every n-th call is written,
+// so turning it on in production doesn't flood the appender queue.
+public class SampledLogger {
+
+    private final Logger log;
+    private final long sampleRate;
+    private final AtomicLong calls = new AtomicLong();
+
+    public SampledLogger(Logger log, long sampleRate) {
+        this.log = log;
+        this.sampleRate = Math.max(sampleRate, 1);
+    }
+
+    // one decision per request, so all lines of a sampled request are kept together
+    public boolean sample() {
+        return log.isDebugEnabled() && calls.incrementAndGet() % sampleRate == 0;
+    }
+
+    public void debug(boolean sampled, String format, Object... args) {
+        if (sampled) {
+            log.debug(format, args);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.Emp_Task.Metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+// Session factory wide Hibernate statistics (needs hibernate.generate_statistics=true).
+// Entity and collection fetches are the lazy loads - a fetch rate that tracks the request
+// rate points at an N+1.
+@Component
+public class HibernateStatisticsMetrics implements MeterBinder {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public HibernateStatisticsMetrics(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!stats.isStatisticsEnabled()) {
+            return;
+        }
+        counter(registry, stats, "hibernate.statements.prepared", Statistics::getPrepareStatementCount);
+        counter(registry, stats, "hibernate.queries.executed", Statistics::getQueryExecutionCount);
+        counter(registry, stats, "hibernate.entities.loaded", Statistics::getEntityLoadCount);
+        counter(registry, stats, "hibernate.entities.fetched", Statistics::getEntityFetchCount);
+        counter(registry, stats, "hibernate.collections.fetched", Statistics::getCollectionFetchCount);
+        counter(registry, stats, "hibernate.transactions", Statistics::getTransactionCount);
+        counter(registry, stats, "hibernate.optimistic.failures", Statistics::getOptimisticFailureCount);
+        Gauge.builder("hibernate.queries.max-time", stats, Statistics::getQueryExecutionMaxTime)
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+
+    private static void counter(MeterRegistry registry, Statistics stats, String name,
+                                ToDoubleFunction<Statistics> value) {
+        FunctionCounter.builder(name, stats, value).register(registry);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.Emp_Task.Notification;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Used unless notifications.twilio.enabled=true (tests, local runs): logs instead of texting.
+@Component
+@ConditionalOnProperty(name = "notifications.twilio.enabled", havingValue = "false", matchIfMissing = true)
+public class LoggingNotificationSender implements NotificationSender {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingNotificationSender.class);
+
+    @Override
+    public void send(String phone, String message) {
+        log.info("Notification to {}: {}", mask(phone), message);
+    }
+
+    private static String mask(String phone) {
+        return phone.length() <= 4 ? "****" : "****" + phone.substring(phone.length() - 4);
+    }
+}
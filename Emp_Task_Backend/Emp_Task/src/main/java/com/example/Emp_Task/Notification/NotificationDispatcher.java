@@ -0,0 +1,259 @@
+package com.example.Emp_Task.Notification;
+
+import com.example.Emp_Task.Cache.EmployeeCache;
+import com.example.Emp_Task.Entity.Employee;
+import com.example.Emp_Task.Entity.NotificationOutbox;
+import com.example.Emp_Task.Repository.NotificationOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the notification outbox. Each tick claims a batch of ready rows (SKIP LOCKED,
+ * so several nodes can run this at once), folds all rows of one employee into a single
+ * message, and sends the messages from a small worker pool at no more than the
+ * configured rate. Failed sends are retried with exponential backoff and jitter until
+ * max-attempts, then marked FAILED. Finished rows are purged once they are older than
+ * the retention period.
+ */
+@Component
+public class NotificationDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    // two SMS segments
+    private static final int MAX_MESSAGE_LENGTH = 320;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final EmployeeCache employeeCache;
+    private final NotificationSender sender;
+    private final TransactionTemplate tx;
+    private final ExecutorService workers;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final Duration claimTimeout;
+    private final Duration retention;
+    private final long sendIntervalNanos;
+    private final AtomicLong nextSendSlot = new AtomicLong(System.nanoTime());
+
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+
+    public NotificationDispatcher(NotificationOutboxRepository outboxRepository, EmployeeCache employeeCache,
+                                  NotificationSender sender, PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${notifications.workers:4}") int workerCount,
+                                  @Value("${notifications.batch-size:200}") int batchSize,
+                                  @Value("${notifications.rate-per-second:10}") double ratePerSecond,
+                                  @Value("${notifications.max-attempts:6}") int maxAttempts,
+                                  @Value("${notifications.base-backoff:PT30S}") Duration baseBackoff,
+                                  @Value("${notifications.max-backoff:PT1H}") Duration maxBackoff,
+                                  @Value("${notifications.claim-timeout:PT5M}") Duration claimTimeout,
+                                  @Value("${notifications.retention:P30D}") Duration retention) {
+        this.outboxRepository = outboxRepository;
+        this.employeeCache = employeeCache;
+        this.sender = sender;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+        this.claimTimeout = claimTimeout;
+        this.retention = retention;
+        this.sendIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+
+        AtomicInteger count = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, r -> {
+            Thread t = new Thread(r, "notify-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        this.sent = Counter.builder("notifications.sent").register(meterRegistry);
+        this.retried = Counter.builder("notifications.retried").register(meterRegistry);
+        this.failed = Counter.builder("notifications.failed").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${notifications.poll-interval:PT5S}")
+    public void dispatch() {
+        List<NotificationOutbox> batch = claim();
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // coalescing: one message per employee for everything in this batch
+        Map<Integer, List<NotificationOutbox>> byEmployee = batch.stream()
+                .collect(Collectors.groupingBy(NotificationOutbox::getEmployeeId, LinkedHashMap::new, Collectors.toList()));
+
+        List<Callable<Outcome>> sends = new ArrayList<>();
+        byEmployee.forEach((empId, rows) -> sends.add(() -> send(empId, rows)));
+        List<Outcome> outcomes = new ArrayList<>();
+        try {
+            for (var future : workers.invokeAll(sends)) {
+                outcomes.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return; // claims run out and the rows are picked up again
+        } catch (Exception e) {
+            log.warn("Notification send failed unexpectedly: {}", e.getMessage());
+        }
+        record(outcomes);
+    }
+
+    // SENT, FAILED and SKIPPED rows are history only; delete them a batch per transaction
+    @Scheduled(fixedDelayString = "${notifications.purge-interval:PT1H}")
+    public void purgeFinished() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = tx.execute(status -> {
+                List<Long> ids = outboxRepository.findFinishedBefore(before, Limit.of(batchSize));
+                outboxRepository.deleteAllByIdInBatch(ids);
+                return ids.size();
+            });
+            purged += deleted;
+        } while (deleted == batchSize);
+        if (purged > 0) {
+            log.info("Purged {} finished notification(s) older than {}", purged, retention);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private record Outcome(List<NotificationOutbox> rows, String status, String error) {
+    }
+
+    private List<NotificationOutbox> claim() {
+        return tx.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<NotificationOutbox> rows = outboxRepository.claimReady(now, Limit.of(batchSize));
+            rows.forEach(row -> {
+                row.setStatus(NotificationOutbox.SENDING);
+                row.setClaimedUntil(now.plus(claimTimeout));
+            });
+            return rows;
+        });
+    }
+
+    private Outcome send(Integer empId, List<NotificationOutbox> rows) {
+        String phone = employeeCache.findById(empId).map(Employee::getPhone).orElse(null);
+        if (phone == null || phone.isBlank()) {
+            return new Outcome(rows, NotificationOutbox.SKIPPED, "no phone number");
+        }
+        try {
+            awaitSendSlot();
+            sender.send(phone, message(rows));
+            return new Outcome(rows, NotificationOutbox.SENT, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Outcome(rows, NotificationOutbox.PENDING, "interrupted");
+        } catch (RuntimeException e) {
+            return new Outcome(rows, NotificationOutbox.PENDING, e.getMessage());
+        }
+    }
+
+    // applied to freshly loaded rows in one transaction: one select, then batched updates
+    private void record(List<Outcome> outcomes) {
+        Map<Long, Outcome> byRow = new LinkedHashMap<>();
+        outcomes.forEach(outcome -> outcome.rows().forEach(row -> byRow.put(row.getId(), outcome)));
+        tx.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (NotificationOutbox row : outboxRepository.findAllById(byRow.keySet())) {
+                Outcome outcome = byRow.get(row.getId());
+                row.setClaimedUntil(null);
+                row.setLastError(outcome.error());
+                if (NotificationOutbox.PENDING.equals(outcome.status())) {
+                    retryLater(row, now);
+                } else {
+                    row.setStatus(outcome.status());
+                    if (NotificationOutbox.SENT.equals(outcome.status())) {
+                        row.setSentAt(now);
+                    }
+                }
+            }
+        });
+        outcomes.stream().filter(o -> NotificationOutbox.SENT.equals(o.status())).forEach(o -> sent.increment());
+    }
+
+    private void retryLater(NotificationOutbox row, LocalDateTime now) {
+        int attempts = row.getAttempts() + 1;
+        row.setAttempts(attempts);
+        if (attempts >= maxAttempts) {
+            row.setStatus(NotificationOutbox.FAILED);
+            failed.increment();
+            return;
+        }
+        // base * 2^(attempts-1), capped, with up to 50% jitter so retries don't arrive together
+        long backoff = Math.min(maxBackoff.toMillis(), baseBackoff.toMillis() << Math.min(attempts - 1, 20));
+        long jittered = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+        row.setStatus(NotificationOutbox.PENDING);
+        row.setNextAttemptAt(now.plus(Duration.ofMillis(jittered)));
+        retried.increment();
+    }
+
+    // global pacing across the worker threads: each send takes the next free slot
+    private void awaitSendSlot() throws InterruptedException {
+        long slot = nextSendSlot.getAndAccumulate(sendIntervalNanos,
+                (next, interval) -> Math.max(next, System.nanoTime()) + interval);
+        long wait = Math.max(slot, System.nanoTime()) - System.nanoTime();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    private static String message(List<NotificationOutbox> rows) {
+        List<String> assigned = details(rows, NotificationOutboxWriter.TASK_ASSIGNED);
+        List<String> overdue = details(rows, NotificationOutboxWriter.DEADLINE_PASSED);
+        StringBuilder text = new StringBuilder();
+        if (!assigned.isEmpty()) {
+            text.append(assigned.size() == 1 ? "New task: " : assigned.size() + " new tasks: ")
+                    .append(String.join("; ", assigned)).append(". ");
+        }
+        if (!overdue.isEmpty()) {
+            text.append(overdue.size() == 1 ? "Deadline passed: " : overdue.size() + " deadlines passed: ")
+                    .append(String.join("; ", overdue)).append('.');
+        }
+        String message = text.toString().trim();
+        return message.length() <= MAX_MESSAGE_LENGTH ? message : message.substring(0, MAX_MESSAGE_LENGTH - 3) + "...";
+    }
+
+    private static List<String> details(List<NotificationOutbox> rows, String kind) {
+        return rows.stream()
+                .filter(row -> kind.equals(row.getKind()))
+                .map(row -> row.getDetail() == null ? "task #" + row.getTaskId() : row.getDetail())
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.Emp_Task.Notification;
+
+import com.example.Emp_Task.Entity.NotificationOutbox;
+import com.example.Emp_Task.Event.TaskChangeEvent;
+import com.example.Emp_Task.Event.TaskDeadlinePassedEvent;
+import com.example.Emp_Task.Event.TaskSnapshot;
+import com.example.Emp_Task.Repository.NotificationOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Turns task events into outbox rows. Assignment rows are written in the task's own
+ * transaction (BEFORE_COMMIT), so they exist exactly when the task change does;
+ * nothing here does network I/O - NotificationDispatcher sends them later.
+ */
+@Component
+public class NotificationOutboxWriter {
+
+    public static final String TASK_ASSIGNED = "TASK_ASSIGNED";
+    public static final String DEADLINE_PASSED = "DEADLINE_PASSED";
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final Duration coalesceWindow;
+
+    // rows wait out the window so a burst of changes for one employee goes out as one message
+    public NotificationOutboxWriter(NotificationOutboxRepository outboxRepository,
+                                    @Value("${notifications.coalesce-window:PT10S}") Duration coalesceWindow) {
+        this.outboxRepository = outboxRepository;
+        this.coalesceWindow = coalesceWindow;
+    }
+
+    // a new task, or a task moved to another employee
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTaskChange(TaskChangeEvent event) {
+        TaskSnapshot after = event.after();
+        if (after == null || after.employeeId() == null) {
+            return;
+        }
+        boolean assigned = event.before() == null
+                || !Objects.equals(event.before().employeeId(), after.employeeId());
+        if (assigned) {
+            outboxRepository.save(new NotificationOutbox(after.employeeId(), TASK_ASSIGNED, after.id(), after.description(),
+                    notBefore()));
+        }
+    }
+
+    // fired by the deadline scheduler on one node, outside any transaction
+    @EventListener
+    public void onDeadlinePassed(TaskDeadlinePassedEvent event) {
+        TaskSnapshot task = event.task();
+        if (task.employeeId() != null) {
+            outboxRepository.save(new NotificationOutbox(task.employeeId(), DEADLINE_PASSED, task.id(), task.description(),
+                    notBefore()));
+        }
+    }
+
+    private LocalDateTime notBefore() {
+        return LocalDateTime.now().plus(coalesceWindow);
+    }
+}
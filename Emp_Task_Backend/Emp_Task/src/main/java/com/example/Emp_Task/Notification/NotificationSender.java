@@ -0,0 +1,7 @@
+package com.example.Emp_Task.Notification;
+
+// Delivers one message to one phone number. Throwing means "try again later".
+public interface NotificationSender {
+
+    void send(String phone, String message);
+}
@@ -0,0 +1,27 @@
+package com.example.Emp_Task.Notification;
+
+import com.twilio.Twilio;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.type.PhoneNumber;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "notifications.twilio.enabled", havingValue = "true")
+public class TwilioNotificationSender implements NotificationSender {
+
+    private final PhoneNumber from;
+
+    public TwilioNotificationSender(@Value("${notifications.twilio.account-sid}") String accountSid,
+                                    @Value("${notifications.twilio.auth-token}") String authToken,
+                                    @Value("${notifications.twilio.from-number}") String fromNumber) {
+        Twilio.init(accountSid, authToken);
+        this.from = new PhoneNumber(fromNumber);
+    }
+
+    @Override
+    public void send(String phone, String message) {
+        Message.creator(new PhoneNumber(phone), from, message).create();
+    }
+}
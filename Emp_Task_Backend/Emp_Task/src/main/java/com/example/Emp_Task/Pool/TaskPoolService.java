@@ -0,0 +1,166 @@
+package com.example.Emp_Task.Pool;
+
+import com.example.Emp_Task.Dto.PoolClaim;
+import com.example.Emp_Task.Dto.TaskView;
+import com.example.Emp_Task.Entity.PoolTask;
+import com.example.Emp_Task.Entity.Task;
+import com.example.Emp_Task.Event.TaskChangeEvent;
+import com.example.Emp_Task.Event.TaskSnapshot;
+import com.example.Emp_Task.Repository.ArchivedTaskRepository;
+import com.example.Emp_Task.Repository.PoolTaskRepository;
+import com.example.Emp_Task.Repository.TaskRepository;
+import com.example.Emp_Task.Service.TaskService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Shared work queue: tasks are put into the pool without an owner and employees (or
+ * worker nodes acting for them) claim the next N. A claim locks open rows with
+ * SKIP LOCKED, so concurrent claimers never wait on or hand out the same row, and
+ * creates an ordinary task for the claimer through {@link TaskService} - lists,
+ * streams, stats and notifications treat it like any assigned task.
+ * <p>
+ * Each claim is a lease. Completing the task settles it, and the claimer can renew it;
+ * once the lease runs out with the task still open (or deleted), the claimer's task is
+ * removed and the row goes back to the pool for the next claim.
+ */
+@Service
+public class TaskPoolService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskPoolService.class);
+
+    private final PoolTaskRepository poolRepository;
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskService taskService;
+    private final TransactionTemplate tx;
+    private final Counter claimed;
+    private final Counter requeued;
+    private final Duration lease;
+    private final int maxClaim;
+    private final int requeueBatchSize;
+
+    public TaskPoolService(PoolTaskRepository poolRepository, TaskRepository taskRepository,
+                           ArchivedTaskRepository archivedTaskRepository, TaskService taskService,
+                           PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                           @Value("${tasks.pool.lease:PT1H}") Duration lease,
+                           @Value("${tasks.pool.max-claim:100}") int maxClaim,
+                           @Value("${tasks.pool.requeue-batch-size:200}") int requeueBatchSize) {
+        this.poolRepository = poolRepository;
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.taskService = taskService;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.lease = lease;
+        this.maxClaim = maxClaim;
+        this.requeueBatchSize = requeueBatchSize;
+        this.claimed = Counter.builder("tasks.pool.claimed").register(meterRegistry);
+        this.requeued = Counter.builder("tasks.pool.requeued")
+                .description("Pool tasks put back after their lease ran out")
+                .register(meterRegistry);
+    }
+
+    @Transactional
+    public PoolTask add(Task task) {
+        if (task == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Task body missing");
+        }
+        return poolRepository.save(new PoolTask(task.getDescription(), task.getStartDateTime(), task.getEndDateTime()));
+    }
+
+    // up to count of the oldest open pool tasks, assigned to empId; empty when the pool is drained
+    @Transactional
+    public List<PoolClaim> claim(Integer empId, int count) {
+        if (count <= 0 || count > maxClaim) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Claim between 1 and " + maxClaim + " tasks");
+        }
+        List<PoolTask> rows = poolRepository.claimOpen(Limit.of(count));
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime leaseExpiresAt = LocalDateTime.now().plus(lease);
+        List<PoolClaim> claims = new ArrayList<>(rows.size());
+        for (PoolTask row : rows) {
+            Task task = taskService.addTask(empId, row.toTask());
+            row.claim(empId, task.getId(), leaseExpiresAt);
+            claims.add(new PoolClaim(row.getId(), TaskView.of(TaskSnapshot.of(task)), leaseExpiresAt));
+        }
+        claimed.increment(claims.size());
+        return claims;
+    }
+
+    // keep working on a claimed task past its lease; 404 once the lease has run out, and for
+    // anyone but the claimer
+    @Transactional
+    public LocalDateTime renew(Integer taskId, Integer empId) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(lease);
+        if (poolRepository.extendLease(taskId, empId, now, until) == 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No live pool claim of yours for this task");
+        }
+        return until;
+    }
+
+    // runs in the transaction that completes the task, so the lease is settled with it and
+    // the requeue job never sees an expired lease on a completed task
+    @EventListener
+    public void onTaskChange(TaskChangeEvent event) {
+        TaskSnapshot after = event.after();
+        if (after != null && TaskService.COMPLETED.equals(after.status())
+                && (event.before() == null || !TaskService.COMPLETED.equals(event.before().status()))) {
+            poolRepository.settleCompleted(after.id());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.pool.requeue-interval:PT30S}")
+    public void requeueExpired() {
+        int handled;
+        do {
+            handled = tx.execute(status -> settleExpiredBatch(LocalDateTime.now()));
+        } while (handled == requeueBatchSize);
+    }
+
+    // expired leases, SKIP LOCKED so nodes running this at the same time split the work.
+    // The claimer's task is read with a row lock: a completion in flight either commits
+    // first and is seen here, or waits and then finds the task gone.
+    int settleExpiredBatch(LocalDateTime now) {
+        List<PoolTask> rows = poolRepository.claimExpired(now, Limit.of(requeueBatchSize));
+        int back = 0;
+        for (PoolTask row : rows) {
+            Optional<TaskSnapshot> task = taskRepository.lockSnapshotById(row.getTaskId());
+            boolean completed = task.map(t -> TaskService.COMPLETED.equals(t.status()))
+                    .orElseGet(() -> archivedTaskRepository.existsById(row.getTaskId()));
+            if (completed) {
+                row.done();
+            } else {
+                task.ifPresent(t -> taskService.deleteTask(t.id()));
+                row.requeue();
+                back++;
+            }
+        }
+        if (back > 0) {
+            requeued.increment(back);
+            log.info("Put {} pool task(s) back after their lease ran out", back);
+        }
+        return rows.size();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.Emp_Task.RateLimit;
+
+// Reads and writes are limited separately, so a client polling its lists can't use up its own writes.
+public enum Budget {
+    READ,
+    WRITE;
+
+    static Budget of(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) ? READ : WRITE;
+    }
+}
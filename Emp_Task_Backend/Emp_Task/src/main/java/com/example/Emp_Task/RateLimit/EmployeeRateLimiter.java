@@ -0,0 +1,7 @@
+package com.example.Emp_Task.RateLimit;
+
+public interface EmployeeRateLimiter {
+
+    // 0 when the request may run, otherwise nanos until the budget has room again
+    long tryAcquire(Integer empId, Budget budget);
+}
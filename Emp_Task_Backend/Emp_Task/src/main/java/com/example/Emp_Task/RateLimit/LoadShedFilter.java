@@ -0,0 +1,92 @@
+package com.example.Emp_Task.RateLimit;
+
+import com.example.Emp_Task.Security.SecurityConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control in front of everything else: at most max-concurrent requests run
+ * at once, the rest queue for a slot. One that has queued longer than max-queue-time
+ * gets a 503 right away instead of tying up a Tomcat thread and, later, a database
+ * connection it would only wait on.
+ *
+ * Only the request thread's time counts: async streams and exports give their slot
+ * back when the initial dispatch returns. Health and metrics scrapes are never shed.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class LoadShedFilter extends OncePerRequestFilter {
+
+    private final Semaphore slots;
+    private final long maxQueueNanos;
+    private final boolean enabled;
+    private final Timer queueTime;
+    private final Counter shed;
+
+    public LoadShedFilter(MeterRegistry meterRegistry,
+                          @Value("${admission.max-concurrent:64}") int maxConcurrent,
+                          @Value("${admission.max-queue-time:PT0.2S}") Duration maxQueueTime) {
+        this.enabled = maxConcurrent > 0;
+        this.slots = new Semaphore(Math.max(maxConcurrent, 1), true);
+        this.maxQueueNanos = maxQueueTime.toNanos();
+        this.queueTime = Timer.builder("http.admission.queue")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.shed = Counter.builder("http.admission.shed").register(meterRegistry);
+        Gauge.builder("http.admission.in_flight", slots, s -> Math.max(maxConcurrent, 1) - s.availablePermits())
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || SecurityConfig.isPublicActuator(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        boolean admitted;
+        try {
+            admitted = slots.tryAcquire(maxQueueNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        queueTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (!admitted) {
+            shed.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType("application/json");
+            response.getWriter().write("{\"error\": \"Server busy, retry shortly\"}");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            slots.release();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.Emp_Task.RateLimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Without Redis: each node keeps its own buckets, so an employee's budget is per node.
+// Also the fallback of RedisEmployeeRateLimiter while Redis is unreachable.
+@Component
+@ConditionalOnProperty(name = "cluster.redis.enabled", havingValue = "false")
+public class LocalEmployeeRateLimiter implements EmployeeRateLimiter {
+
+    private final Map<Budget, TokenBuckets> buckets = new EnumMap<>(Budget.class);
+
+    public LocalEmployeeRateLimiter(@Value("${ratelimit.read.permits:300}") long readPermits,
+                                    @Value("${ratelimit.read.period:PT1M}") Duration readPeriod,
+                                    @Value("${ratelimit.write.permits:60}") long writePermits,
+                                    @Value("${ratelimit.write.period:PT1M}") Duration writePeriod,
+                                    @Value("${ratelimit.max-employees:10000}") long maxEmployees) {
+        buckets.put(Budget.READ, new TokenBuckets(readPermits, readPeriod, maxEmployees, System::nanoTime));
+        buckets.put(Budget.WRITE, new TokenBuckets(writePermits, writePeriod, maxEmployees, System::nanoTime));
+    }
+
+    @Override
+    public long tryAcquire(Integer empId, Budget budget) {
+        return buckets.get(budget).tryTake(empId);
+    }
+}
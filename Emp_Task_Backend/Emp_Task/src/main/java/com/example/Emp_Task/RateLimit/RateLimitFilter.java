@@ -0,0 +1,72 @@
+package com.example.Emp_Task.RateLimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Runs right after JwtAuthFilter (see SecurityConfig): requests of an authenticated employee
+// spend a token of their read or write budget, or get a 429 with Retry-After.
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final EmployeeRateLimiter limiter;
+    private final boolean enabled;
+    private final Map<Budget, Counter> rejected = new EnumMap<>(Budget.class);
+
+    public RateLimitFilter(EmployeeRateLimiter limiter, MeterRegistry meterRegistry,
+                           @Value("${ratelimit.enabled:true}") boolean enabled) {
+        this.limiter = limiter;
+        this.enabled = enabled;
+        for (Budget budget : Budget.values()) {
+            rejected.put(budget, Counter.builder("http.rate_limited")
+                    .tag("budget", budget.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        Integer empId = currentEmployee();
+        if (!enabled || empId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Budget budget = Budget.of(request.getMethod());
+        long waitNanos = limiter.tryAcquire(empId, budget);
+        if (waitNanos > 0) {
+            rejected.get(budget).increment();
+            long seconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+            response.setContentType("application/json");
+            response.getWriter().write("{\"error\": \"Too many requests, retry in " + seconds + " s\"}");
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    // JwtAuthFilter stores the employee id in the authentication details
+    private static Integer currentEmployee() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getDetails() instanceof Integer empId ? empId : null;
+    }
+}
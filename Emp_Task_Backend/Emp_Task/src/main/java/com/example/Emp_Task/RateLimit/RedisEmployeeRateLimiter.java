@@ -0,0 +1,106 @@
+package com.example.Emp_Task.RateLimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.redisson.api.RRateLimiter;
+import org.redisson.api.RateIntervalUnit;
+import org.redisson.api.RateType;
+import org.redisson.api.RedissonClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Budgets shared by all nodes: one Redisson RRateLimiter per employee and budget,
+ * "ratelimit:read:42" / "ratelimit:write:42".
+ *
+ * A limiter's rate is stored in Redis by the first node that uses it and is kept while
+ * the key lives; each node re-sets it (and the key TTL) every half TTL. A changed rate
+ * therefore applies to an employee once their old key has expired.
+ *
+ * When Redis fails, requests are limited by local buckets for redis-retry before
+ * Redis is tried again.
+ */
+@Component
+@ConditionalOnProperty(name = "cluster.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisEmployeeRateLimiter implements EmployeeRateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisEmployeeRateLimiter.class);
+
+    private static final Duration KEY_TTL = Duration.ofHours(1);
+
+    private final ObjectProvider<RedissonClient> redisson;
+    private final LocalEmployeeRateLimiter fallback;
+    private final long readPermits;
+    private final Duration readPeriod;
+    private final long writePermits;
+    private final Duration writePeriod;
+    private final long retryNanos;
+    // limiters whose rate and TTL this node has set recently
+    private final Cache<String, RRateLimiter> limiters;
+
+    private volatile long redisBlockedUntil;
+
+    public RedisEmployeeRateLimiter(ObjectProvider<RedissonClient> redisson,
+                                    @Value("${ratelimit.read.permits:300}") long readPermits,
+                                    @Value("${ratelimit.read.period:PT1M}") Duration readPeriod,
+                                    @Value("${ratelimit.write.permits:60}") long writePermits,
+                                    @Value("${ratelimit.write.period:PT1M}") Duration writePeriod,
+                                    @Value("${ratelimit.max-employees:10000}") long maxEmployees,
+                                    @Value("${ratelimit.redis-retry:PT10S}") Duration redisRetry) {
+        this.redisson = redisson;
+        this.fallback = new LocalEmployeeRateLimiter(readPermits, readPeriod, writePermits, writePeriod, maxEmployees);
+        this.readPermits = readPermits;
+        this.readPeriod = readPeriod;
+        this.writePermits = writePermits;
+        this.writePeriod = writePeriod;
+        this.retryNanos = redisRetry.toNanos();
+        this.limiters = Caffeine.newBuilder()
+                .maximumSize(maxEmployees * 2)
+                .expireAfterWrite(KEY_TTL.dividedBy(2))
+                .build();
+        this.redisBlockedUntil = System.nanoTime();
+    }
+
+    @Override
+    public long tryAcquire(Integer empId, Budget budget) {
+        if (System.nanoTime() - redisBlockedUntil < 0) {
+            return fallback.tryAcquire(empId, budget);
+        }
+        String key = budget.name().toLowerCase() + ":" + empId;
+        try {
+            RRateLimiter limiter = limiters.get(key, k -> initialize(k, budget));
+            if (limiter.tryAcquire()) {
+                return 0;
+            }
+            // Redisson doesn't report when the next permit frees up; one permit's share of the period
+            return budget == Budget.READ
+                    ? readPeriod.toNanos() / readPermits
+                    : writePeriod.toNanos() / writePermits;
+        } catch (RuntimeException e) {
+            // also covers a key lost with a Redis restart: it is set up again after the retry delay
+            limiters.invalidate(key);
+            redisBlockedUntil = System.nanoTime() + retryNanos;
+            log.warn("Redis rate limiter unavailable, using local buckets for {} ms: {}",
+                    TimeUnit.NANOSECONDS.toMillis(retryNanos), e.getMessage());
+            return fallback.tryAcquire(empId, budget);
+        }
+    }
+
+    private RRateLimiter initialize(String key, Budget budget) {
+        RRateLimiter limiter = redisson.getObject().getRateLimiter("ratelimit:" + key);
+        if (budget == Budget.READ) {
+            limiter.trySetRate(RateType.OVERALL, readPermits, readPeriod.toMillis(), RateIntervalUnit.MILLISECONDS);
+        } else {
+            limiter.trySetRate(RateType.OVERALL, writePermits, writePeriod.toMillis(), RateIntervalUnit.MILLISECONDS);
+        }
+        limiter.expire(KEY_TTL.toMillis(), TimeUnit.MILLISECONDS);
+        return limiter;
+    }
+}
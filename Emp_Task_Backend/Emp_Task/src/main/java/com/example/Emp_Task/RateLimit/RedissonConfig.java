@@ -0,0 +1,35 @@
+package com.example.Emp_Task.RateLimit;
+
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.redisson.config.SingleServerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+@Configuration
+@ConditionalOnProperty(name = "cluster.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedissonConfig {
+
+    // Lazy: Redisson connects when it is created, and Redis being down at startup must not stop the app.
+    // Short timeouts and no retries - a rate limit check that waits on Redis is worse than a local one.
+    @Bean(destroyMethod = "shutdown")
+    @Lazy
+    public RedissonClient redissonClient(@Value("${spring.data.redis.host:localhost}") String host,
+                                         @Value("${spring.data.redis.port:6379}") int port,
+                                         @Value("${spring.data.redis.password:}") String password) {
+        Config config = new Config();
+        SingleServerConfig server = config.useSingleServer()
+                .setAddress("redis://" + host + ":" + port)
+                .setConnectTimeout(1000)
+                .setTimeout(200)
+                .setRetryAttempts(0);
+        if (!password.isEmpty()) {
+            server.setPassword(password);
+        }
+        return Redisson.create(config);
+    }
+}
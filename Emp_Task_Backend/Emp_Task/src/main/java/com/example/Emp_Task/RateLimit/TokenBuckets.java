@@ -0,0 +1,52 @@
+package com.example.Emp_Task.RateLimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+// In-memory token buckets, one per employee: up to `permits` tokens, refilled at
+// permits per period. A bucket idle for a whole period would be full again, so it is dropped.
+class TokenBuckets {
+
+    private static final class Bucket {
+        double tokens;
+        long refilledAt;
+
+        Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+    }
+
+    private final long permits;
+    private final double tokensPerNano;
+    private final LongSupplier nanoClock;
+    private final Cache<Integer, Bucket> buckets;
+
+    TokenBuckets(long permits, Duration period, long maxEmployees, LongSupplier nanoClock) {
+        this.permits = permits;
+        this.tokensPerNano = permits / (double) period.toNanos();
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxEmployees)
+                .expireAfterAccess(period)
+                .build();
+    }
+
+    // 0 when a token was taken, otherwise nanos until the next one
+    long tryTake(Integer empId) {
+        Bucket bucket = buckets.get(empId, id -> new Bucket(permits, nanoClock.getAsLong()));
+        synchronized (bucket) {
+            long now = nanoClock.getAsLong();
+            bucket.tokens = Math.min(permits, bucket.tokens + (now - bucket.refilledAt) * tokensPerNano);
+            bucket.refilledAt = now;
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - bucket.tokens) / tokensPerNano);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.Emp_Task.Repository;
+
+import com.example.Emp_Task.Dto.TaskView;
+import com.example.Emp_Task.Entity.ArchivedTask;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+// Read side of tasks_archive, mirroring the TaskRepository queries the read endpoints use.
+// Every archived task is COMPLETED, so there are no status variants.
+public interface ArchivedTaskRepository extends Repository<ArchivedTask, Integer> {
+
+    String ARCHIVED_VIEW = "select new com.example.Emp_Task.Dto.TaskView(a.id, a.description, a.status, " +
+            "a.startDateTime, a.endDateTime, a.completedAt, a.version, a.employeeId) from ArchivedTask a ";
+
+    @Query(ARCHIVED_VIEW + "where a.employeeId = :empId order by a.id")
+    List<TaskView> findViewsByEmployeeId(Integer empId);
+
+    @Query(ARCHIVED_VIEW + "order by a.id")
+    List<TaskView> findAllViews();
+
+    @Query(ARCHIVED_VIEW + "where a.employeeId = :empId and a.startDateTime between :start and :end order by a.startDateTime")
+    List<TaskView> findViewsByEmployeeIdAndStartDateTimeBetween(Integer empId, LocalDateTime start, LocalDateTime end);
+
+    @Query(ARCHIVED_VIEW + "where a.employeeId = :empId and a.id > :afterId order by a.id asc")
+    List<TaskView> findViewPageAsc(Integer empId, Integer afterId, Limit limit);
+
+    @Query(ARCHIVED_VIEW + "where a.employeeId = :empId and a.id < :beforeId order by a.id desc")
+    List<TaskView> findViewPageDesc(Integer empId, Integer beforeId, Limit limit);
+
+    // same split as TaskRepository.findViewsOverlapping / findOpenEndedViewsStartingBetween
+    @Query(ARCHIVED_VIEW + "where a.employeeId in :empIds and a.endDateTime >= :from and a.startDateTime < :to")
+    List<TaskView> findViewsOverlapping(Collection<Integer> empIds, LocalDateTime from, LocalDateTime to);
+
+    @Query(ARCHIVED_VIEW + "where a.employeeId in :empIds and a.endDateTime is null " +
+            "and a.startDateTime >= :from and a.startDateTime < :to")
+    List<TaskView> findOpenEndedViewsStartingBetween(Collection<Integer> empIds, LocalDateTime from, LocalDateTime to);
+
+    boolean existsById(Integer id);
+
+    // stats aggregate: archived tasks count as COMPLETED
+    long countByEmployeeId(Integer empId);
+
+    // archived rows keep their employee_id too, so they block deleting the employee
+    boolean existsByEmployeeId(Integer empId);
+
+    @Query("select a.completedAt from ArchivedTask a where a.employeeId = :empId and a.completedAt >= :since")
+    List<LocalDateTime> findCompletionTimesSince(Integer empId, LocalDateTime since);
+
+    // TaskArchiver: copies the given tasks if they are still COMPLETED; the caller deletes them from tasks
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO tasks_archive " +
+            "(id, description, status, start_date_time, end_date_time, completed_at, version, employee_id, archived_at) " +
+            "SELECT id, description, status, start_date_time, end_date_time, completed_at, version, employee_id, :archivedAt " +
+            "FROM tasks WHERE id IN (:ids) AND status = 'COMPLETED'")
+    int copyFromTasks(Collection<Integer> ids, LocalDateTime archivedAt);
+}
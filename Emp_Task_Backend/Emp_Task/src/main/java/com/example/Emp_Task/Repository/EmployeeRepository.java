@@ -1,10 +1,38 @@
 package com.example.Emp_Task.Repository;
 
 
+import com.example.Emp_Task.Dto.EmployeeView;
 import com.example.Emp_Task.Entity.Employee;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface EmployeeRepository extends JpaRepository<Employee, Integer> {
 
     Employee findByEmail(String email);
+
+    @Query("select new com.example.Emp_Task.Dto.EmployeeView(e.id, e.name, e.email) from Employee e order by e.id")
+    List<EmployeeView> findAllViews();
+
+    // tasks have no employee FK on partitioned MySQL tables (V8); these row locks stand in for it.
+    // Writers that give an employee a task share-lock the row, a delete locks it exclusively.
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select e from Employee e where e.id = :id")
+    Optional<Employee> findAndShareLockById(Integer id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from Employee e where e.id = :id")
+    Optional<Employee> findAndLockById(Integer id);
+
+    // rehash on login; a no-op if the password was changed since it was read
+    @Transactional
+    @Modifying
+    @Query("update Employee e set e.password = :newHash where e.id = :id and e.password = :oldHash")
+    int replacePassword(Integer id, String oldHash, String newHash);
 }
@@ -0,0 +1,30 @@
+package com.example.Emp_Task.Repository;
+
+import com.example.Emp_Task.Entity.NotificationOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // rows ready to send, locked with SKIP LOCKED (lock timeout -2) so concurrent
+    // dispatchers on other nodes each get a disjoint batch instead of waiting
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from NotificationOutbox o where (o.status = 'PENDING' and o.nextAttemptAt <= :now) " +
+            "or (o.status = 'SENDING' and o.claimedUntil < :now) order by o.id")
+    List<NotificationOutbox> claimReady(LocalDateTime now, Limit limit);
+
+    // finished rows for the retention sweep; next_attempt_at (when the last attempt was due)
+    // stands in for the finish time because it is indexed with status
+    @Query("select o.id from NotificationOutbox o where o.status in ('SENT', 'FAILED', 'SKIPPED') " +
+            "and o.nextAttemptAt < :before order by o.id")
+    List<Long> findFinishedBefore(LocalDateTime before, Limit limit);
+}
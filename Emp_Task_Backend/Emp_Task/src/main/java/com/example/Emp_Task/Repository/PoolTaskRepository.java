@@ -0,0 +1,43 @@
+package com.example.Emp_Task.Repository;
+
+import com.example.Emp_Task.Entity.PoolTask;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PoolTaskRepository extends JpaRepository<PoolTask, Long> {
+
+    // oldest open rows, SKIP LOCKED (lock timeout -2): concurrent claimers each lock a
+    // disjoint set instead of queueing behind one another or deadlocking
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select p from PoolTask p where p.status = 'OPEN' order by p.id")
+    List<PoolTask> claimOpen(Limit limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select p from PoolTask p where p.status = 'CLAIMED' and p.leaseExpiresAt < :now order by p.id")
+    List<PoolTask> claimExpired(LocalDateTime now, Limit limit);
+
+    // 0 when the task isn't (or no longer) holding a live lease of empId's
+    @Modifying
+    @Query("update PoolTask p set p.leaseExpiresAt = :until " +
+            "where p.taskId = :taskId and p.claimedBy = :empId and p.status = 'CLAIMED' and p.leaseExpiresAt >= :now")
+    int extendLease(Integer taskId, Integer empId, LocalDateTime now, LocalDateTime until);
+
+    // the claimed task was completed: the lease is over and the row stays out of the pool
+    @Modifying
+    @Query("update PoolTask p set p.status = 'DONE', p.leaseExpiresAt = null " +
+            "where p.taskId = :taskId and p.status = 'CLAIMED'")
+    int settleCompleted(Integer taskId);
+
+    long countByStatus(String status);
+}
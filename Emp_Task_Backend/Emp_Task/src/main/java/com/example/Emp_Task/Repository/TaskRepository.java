@@ -1,24 +1,139 @@
 package com.example.Emp_Task.Repository;
 
+import com.example.Emp_Task.Dto.TaskView;
 import com.example.Emp_Task.Entity.Task;
+import com.example.Emp_Task.Event.TaskSnapshot;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface TaskRepository extends JpaRepository<Task, Integer> {
 
-    List<Task> findByEmployeeId(Integer employeeId);
+    // projection used by every read endpoint; t.employee.id is the FK column, no join
+    String TASK_VIEW = "select new com.example.Emp_Task.Dto.TaskView(t.id, t.description, t.status, " +
+            "t.startDateTime, t.endDateTime, t.completedAt, t.version, t.employee.id) from Task t ";
 
     List<Task> findByStatus(String status);
 
-    List<Task> findByEmployeeIdAndStatus(Integer empId, String status);
+    @Query(TASK_VIEW + "where t.employee.id = :empId order by t.id")
+    List<TaskView> findViewsByEmployeeId(Integer empId);
+
+    @Query(TASK_VIEW + "where t.employee.id = :empId and t.status = :status order by t.id")
+    List<TaskView> findViewsByEmployeeIdAndStatus(Integer empId, String status);
+
+    @Query(TASK_VIEW + "where t.employee.id = :empId and t.startDateTime between :start and :end order by t.startDateTime")
+    List<TaskView> findViewsByEmployeeIdAndStartDateTimeBetween(Integer empId, LocalDateTime start, LocalDateTime end);
+
+    @Query(TASK_VIEW + "order by t.id")
+    List<TaskView> findAllViews();
+
+    @Query(TASK_VIEW + "where t.id in :ids")
+    List<TaskView> findViewsByIdIn(Collection<Integer> ids);
+
+    // calendar window [from, to): a task overlaps when it ends at or after from and starts before to.
+    // Split in two so each half is a range scan on idx_tasks_employee_end instead of an OR.
+    @Query(TASK_VIEW + "where t.employee.id in :empIds and t.endDateTime >= :from and t.startDateTime < :to")
+    List<TaskView> findViewsOverlapping(Collection<Integer> empIds, LocalDateTime from, LocalDateTime to);
+
+    // tasks without an end are a point at their start
+    @Query(TASK_VIEW + "where t.employee.id in :empIds and t.endDateTime is null " +
+            "and t.startDateTime >= :from and t.startDateTime < :to")
+    List<TaskView> findOpenEndedViewsStartingBetween(Collection<Integer> empIds, LocalDateTime from, LocalDateTime to);
+
+    // bulk reads, STREAM_FETCH_SIZE rows per round trip where the driver honours it (MySQL only
+    // does with cursor fetch, which is not enabled); the caller must be in a transaction and close
+    // the stream. Exports set their own fetch size, see TaskExportService.
+    String STREAM_FETCH_SIZE = "500";
+
+    @Query(TASK_VIEW + "order by t.id")
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    Stream<TaskView> streamAllViews();
+
+    // open deadlines for the deadline scheduler, read once at startup
+    @Query("select new com.example.Emp_Task.Event.TaskSnapshot(t.id, t.employee.id, t.description, t.status, " +
+            "t.startDateTime, t.endDateTime, t.completedAt, t.version) from Task t " +
+            "where t.status <> 'COMPLETED' and t.endDateTime > :since")
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    Stream<TaskSnapshot> streamOpenDeadlinesAfter(LocalDateTime since);
+
+    // keyset pages: (employee_id, id) is idx_tasks_employee_id (V11), (employee_id, status, id)
+    // idx_tasks_employee_status with the id InnoDB appends, so neither scans past the page
+    @Query(TASK_VIEW + "where t.employee.id = :empId and t.id > :afterId order by t.id asc")
+    List<TaskView> findViewPageAsc(Integer empId, Integer afterId, Limit limit);
+
+    @Query(TASK_VIEW + "where t.employee.id = :empId and t.id < :beforeId order by t.id desc")
+    List<TaskView> findViewPageDesc(Integer empId, Integer beforeId, Limit limit);
+
+    @Query(TASK_VIEW + "where t.employee.id = :empId and t.status = :status and t.id > :afterId order by t.id asc")
+    List<TaskView> findViewPageByStatusAsc(Integer empId, String status, Integer afterId, Limit limit);
+
+    @Query(TASK_VIEW + "where t.employee.id = :empId and t.status = :status and t.id < :beforeId order by t.id desc")
+    List<TaskView> findViewPageByStatusDesc(Integer empId, String status, Integer beforeId, Limit limit);
+
+    // dashboard: the first perStatus tasks (by id) of every status in one query. The window runs
+    // over idx_tasks_employee_status alone; only the ranked rows are read from the table.
+    // Columns in TaskView order.
+    @Query(nativeQuery = true, value = "SELECT t.id, t.description, t.status, t.start_date_time, t.end_date_time, " +
+            "t.completed_at, t.version, t.employee_id FROM tasks t JOIN (" +
+            "SELECT id, ROW_NUMBER() OVER (PARTITION BY status ORDER BY id) AS rn FROM tasks WHERE employee_id = :empId" +
+            ") ranked ON ranked.id = t.id WHERE t.employee_id = :empId AND ranked.rn <= :perStatus ORDER BY t.status, t.id")
+    List<Object[]> findFirstRowsPerStatus(Integer empId, int perStatus);
+
+    // status change without loading the row; 0 means missing task or stale version
+    @Modifying(clearAutomatically = true)
+    @Query("update Task t set t.status = :status, t.completedAt = :completedAt, t.version = t.version + 1 " +
+            "where t.id = :id and t.version = :version")
+    int updateStatusIfVersion(Integer id, String status, LocalDateTime completedAt, Long version);
+
+    // columns only, no entity (and no employee row) loaded
+    @Query("select new com.example.Emp_Task.Event.TaskSnapshot(t.id, t.employee.id, t.description, t.status, " +
+            "t.startDateTime, t.endDateTime, t.completedAt, t.version) from Task t where t.id = :id")
+    Optional<TaskSnapshot> findSnapshotById(Integer id);
+
+    // same columns, and the row stays locked until the transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select new com.example.Emp_Task.Event.TaskSnapshot(t.id, t.employee.id, t.description, t.status, " +
+            "t.startDateTime, t.endDateTime, t.completedAt, t.version) from Task t where t.id = :id")
+    Optional<TaskSnapshot> lockSnapshotById(Integer id);
+
+    // sources for rebuilding the per-employee stats aggregate
+    @Query("select t.status, count(t) from Task t where t.employee.id = :empId group by t.status")
+    List<Object[]> countByStatus(Integer empId);
+
+    @Query("select t.endDateTime from Task t where t.employee.id = :empId " +
+            "and t.status <> 'COMPLETED' and t.endDateTime is not null")
+    List<LocalDateTime> findOpenDeadlines(Integer empId);
+
+    @Query("select t.completedAt from Task t where t.employee.id = :empId " +
+            "and t.status = 'COMPLETED' and t.completedAt >= :since")
+    List<LocalDateTime> findCompletionTimesSince(Integer empId, LocalDateTime since);
+
+    // the employee FK is gone on partitioned MySQL tables (V8), EmployeeService checks this instead.
+    // Spelled out: Task's JSON getter getEmployeeId() isn't a mapped attribute to derive from
+    @Query("select count(t) > 0 from Task t where t.employee.id = :empId")
+    boolean existsByEmployeeId(Integer empId);
 
-    List<Task> findByEmployeeIdAndStartDateTimeBetween(
-            Integer empId,
-            LocalDateTime start,
-            LocalDateTime end
-    );
+    // archival candidates; tasks completed before completedAt existed fall back to their end/start
+    @Query("select t.id from Task t where t.status = 'COMPLETED' " +
+            "and coalesce(t.completedAt, t.endDateTime, t.startDateTime) < :cutoff order by t.id")
+    List<Integer> findArchivableIds(LocalDateTime cutoff, Limit limit);
 
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Task t where t.id in :ids and t.status = 'COMPLETED'")
+    int deleteCompletedByIdIn(Collection<Integer> ids);
 
 }
@@ -0,0 +1,258 @@
+package com.example.Emp_Task.Search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over task descriptions, ranked with BM25.
+ * Holds ids, owners, statuses and term frequencies only - matching tasks are
+ * loaded from the database by id, so results are never staler than the row.
+ *
+ * A rebuild runs alongside live updates: every document is stamped with the
+ * generation that last wrote it, rows older than what is already indexed are
+ * ignored, tasks deleted during the rebuild are not brought back, and whatever
+ * the rebuild did not see is dropped at the end.
+ */
+class TaskSearchIndex {
+
+    // standard BM25 parameters
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    record Hit(Integer taskId, double score) {
+    }
+
+    record Row(Integer taskId, Integer employeeId, String status, Long version, String description) {
+    }
+
+    private record Doc(Integer employeeId, String status, long version, int length,
+                       String[] terms, long generation) {
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Integer, Integer>> postings = new HashMap<>();
+    private final Map<Integer, Doc> docs = new HashMap<>();
+    private final Map<Integer, Set<Integer>> byEmployee = new HashMap<>();
+    private long totalLength;
+
+    private long generation;
+    private boolean rebuilding;
+    private final Set<Integer> deletedDuringRebuild = new HashSet<>();
+
+    // a live change; stale versions (older than what is indexed) are ignored
+    void put(Integer taskId, Integer employeeId, String status, Long version, String description) {
+        lock.writeLock().lock();
+        try {
+            index(taskId, employeeId, status, version, description);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Integer taskId) {
+        lock.writeLock().lock();
+        try {
+            unindex(taskId);
+            if (rebuilding) {
+                deletedDuringRebuild.add(taskId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void startRebuild() {
+        lock.writeLock().lock();
+        try {
+            generation++;
+            rebuilding = true;
+            deletedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // one batch of rows read by the rebuild
+    void putAll(List<Row> rows) {
+        lock.writeLock().lock();
+        try {
+            for (Row row : rows) {
+                if (!deletedDuringRebuild.contains(row.taskId())) {
+                    index(row.taskId(), row.employeeId(), row.status(), row.version(), row.description());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // drops everything the rebuild did not see; returns how many documents that was
+    int finishRebuild() {
+        lock.writeLock().lock();
+        try {
+            List<Integer> stale = new ArrayList<>();
+            docs.forEach((id, doc) -> {
+                if (doc.generation() < generation) {
+                    stale.add(id);
+                }
+            });
+            stale.forEach(this::unindex);
+            rebuilding = false;
+            deletedDuringRebuild.clear();
+            return stale.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = false;
+            deletedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Tasks matching any query term, best BM25 score first. employeeId and status
+     * (case-insensitive) are optional filters.
+     */
+    List<Hit> search(String query, Integer employeeId, String status, int limit) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokens(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int n = docs.size();
+            if (n == 0) {
+                return List.of();
+            }
+            double avgLength = (double) totalLength / n;
+            Set<Integer> employeeDocs = employeeId == null ? null : byEmployee.getOrDefault(employeeId, Set.of());
+            Map<Integer, Double> scores = new HashMap<>();
+
+            for (String term : terms) {
+                Map<Integer, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                int df = posting.size();
+                double idf = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+
+                // walk whichever is shorter: the term's postings or the employee's tasks
+                if (employeeDocs != null && employeeDocs.size() < df) {
+                    for (Integer id : employeeDocs) {
+                        Integer tf = posting.get(id);
+                        if (tf != null) {
+                            score(scores, id, tf, idf, avgLength, status);
+                        }
+                    }
+                } else {
+                    for (Map.Entry<Integer, Integer> entry : posting.entrySet()) {
+                        if (employeeDocs == null || employeeDocs.contains(entry.getKey())) {
+                            score(scores, entry.getKey(), entry.getValue(), idf, avgLength, status);
+                        }
+                    }
+                }
+            }
+            return top(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void score(Map<Integer, Double> scores, Integer id, int tf, double idf, double avgLength, String status) {
+        Doc doc = docs.get(id);
+        if (status != null && !status.equalsIgnoreCase(doc.status())) {
+            return;
+        }
+        double norm = tf + K1 * (1 - B + B * doc.length() / avgLength);
+        scores.merge(id, idf * tf * (K1 + 1) / norm, Double::sum);
+    }
+
+    private static List<Hit> top(Map<Integer, Double> scores, int limit) {
+        Comparator<Hit> order = Comparator.comparingDouble(Hit::score).thenComparing(Hit::taskId, Comparator.reverseOrder());
+        PriorityQueue<Hit> heap = new PriorityQueue<>(limit + 1, order);
+        scores.forEach((id, score) -> {
+            heap.add(new Hit(id, score));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        });
+        List<Hit> hits = new ArrayList<>(heap);
+        hits.sort(order.reversed());
+        return hits;
+    }
+
+    private void index(Integer taskId, Integer employeeId, String status, Long version, String description) {
+        long v = version == null ? -1 : version;
+        Doc existing = docs.get(taskId);
+        if (existing != null && existing.version() > v) {
+            // still seen by this rebuild, so finishRebuild must not drop it
+            if (existing.generation() < generation) {
+                docs.put(taskId, new Doc(existing.employeeId(), existing.status(), existing.version(),
+                        existing.length(), existing.terms(), generation));
+            }
+            return;
+        }
+        unindex(taskId);
+
+        Map<String, Integer> counts = new TreeMap<>();
+        List<String> tokens = Tokenizer.tokens(description);
+        tokens.forEach(token -> counts.merge(token, 1, Integer::sum));
+
+        String[] terms = counts.keySet().toArray(String[]::new);
+        docs.put(taskId, new Doc(employeeId, status, v, tokens.size(), terms, generation));
+        counts.forEach((term, tf) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(taskId, tf));
+        if (employeeId != null) {
+            byEmployee.computeIfAbsent(employeeId, e -> new HashSet<>()).add(taskId);
+        }
+        totalLength += tokens.size();
+    }
+
+    private void unindex(Integer taskId) {
+        Doc doc = docs.remove(taskId);
+        if (doc == null) {
+            return;
+        }
+        Arrays.stream(doc.terms()).forEach(term -> {
+            Map<Integer, Integer> posting = postings.get(term);
+            posting.remove(taskId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+        if (doc.employeeId() != null) {
+            Set<Integer> owned = byEmployee.get(doc.employeeId());
+            owned.remove(taskId);
+            if (owned.isEmpty()) {
+                byEmployee.remove(doc.employeeId());
+            }
+        }
+        totalLength -= doc.length();
+    }
+}
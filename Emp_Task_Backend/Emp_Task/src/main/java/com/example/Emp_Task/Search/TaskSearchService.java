@@ -0,0 +1,139 @@
+package com.example.Emp_Task.Search;
+
+import com.example.Emp_Task.Database.ReplicaRouting;
+import com.example.Emp_Task.Dto.TaskSearchHit;
+import com.example.Emp_Task.Dto.TaskView;
+import com.example.Emp_Task.Event.TaskChangeBroadcast;
+import com.example.Emp_Task.Event.TaskSnapshot;
+import com.example.Emp_Task.Repository.TaskRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Full-text search over task descriptions. Each node keeps its own {@link TaskSearchIndex},
+ * built from the tasks table at startup (in the background) and on a schedule, and kept
+ * current in between from {@link TaskChangeBroadcast}s.
+ */
+@Service
+public class TaskSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchService.class);
+
+    private static final int REBUILD_BATCH = 1000;
+
+    private final TaskSearchIndex index = new TaskSearchIndex();
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate readOnlyTx;
+    private final Timer searchTimer;
+    private final Timer rebuildTimer;
+    private final AtomicBoolean rebuildRunning = new AtomicBoolean();
+
+    @Value("${tasks.search.max-results:100}")
+    private int maxResults;
+
+    public TaskSearchService(TaskRepository taskRepository, PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.searchTimer = Timer.builder("tasks.search.query").register(meterRegistry);
+        this.rebuildTimer = Timer.builder("tasks.search.rebuild").register(meterRegistry);
+        Gauge.builder("tasks.search.documents", index, TaskSearchIndex::size).register(meterRegistry);
+    }
+
+    public List<TaskSearchHit> search(String query, Integer empId, String status, int limit) {
+        List<TaskSearchIndex.Hit> hits = searchTimer.record(
+                () -> index.search(query, empId, status, Math.min(limit, maxResults)));
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        // rows are read fresh by primary key; a task deleted meanwhile is simply left out
+        Map<Integer, TaskView> views = taskRepository.findViewsByIdIn(hits.stream().map(TaskSearchIndex.Hit::taskId).toList())
+                .stream()
+                .collect(Collectors.toMap(TaskView::id, Function.identity()));
+        List<TaskSearchHit> result = new ArrayList<>(hits.size());
+        for (TaskSearchIndex.Hit hit : hits) {
+            TaskView view = views.get(hit.taskId());
+            if (view != null) {
+                result.add(new TaskSearchHit(view, hit.score()));
+            }
+        }
+        return result;
+    }
+
+    @EventListener
+    public void onBroadcast(TaskChangeBroadcast broadcast) {
+        TaskSnapshot after = broadcast.event().after();
+        if (after == null) {
+            index.remove(broadcast.event().before().id());
+        } else {
+            index.put(after.id(), after.employeeId(), after.status(), after.version(), after.description());
+        }
+    }
+
+    // the app serves requests while the first build runs; searches see a partial index until it ends
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        Thread builder = new Thread(this::rebuild, "task-search-build");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    // catches anything a lost broadcast left out
+    @Scheduled(fixedDelayString = "${tasks.search.rebuild-interval:PT6H}",
+            initialDelayString = "${tasks.search.rebuild-interval:PT6H}")
+    public void rebuild() {
+        if (!rebuildRunning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuildTimer.record(() -> {
+                index.startRebuild();
+                // on the primary: a replica may lack tasks added just before startRebuild, and
+                // finishRebuild would drop them until the next rebuild
+                ReplicaRouting.onPrimary(() -> readOnlyTx.execute(status -> {
+                    try (Stream<TaskView> rows = taskRepository.streamAllViews()) {
+                        List<TaskSearchIndex.Row> batch = new ArrayList<>(REBUILD_BATCH);
+                        rows.forEach(view -> {
+                            batch.add(new TaskSearchIndex.Row(view.id(), view.employeeId(), view.status(),
+                                    view.version(), view.description()));
+                            if (batch.size() == REBUILD_BATCH) {
+                                index.putAll(batch);
+                                batch.clear();
+                            }
+                        });
+                        index.putAll(batch);
+                    }
+                    return null;
+                }));
+                int dropped = index.finishRebuild();
+                log.info("Task search index rebuilt: {} tasks, {} stale entries dropped", index.size(), dropped);
+            });
+        } catch (RuntimeException e) {
+            // nothing is swept after a partial read; live updates kept the index usable
+            index.abortRebuild();
+            log.warn("Task search index rebuild failed: {}", e.getMessage());
+        } finally {
+            rebuildRunning.set(false);
+        }
+    }
+}
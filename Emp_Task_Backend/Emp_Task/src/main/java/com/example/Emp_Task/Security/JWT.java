@@ -60,22 +60,73 @@
 
 package com.example.Emp_Task.Security;
 
+import com.example.Emp_Task.Logging.Redaction;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JWT {
 
+    private static final Logger log = LoggerFactory.getLogger(JWT.class);
+
     private static final String SECRET = "Akhil@2025_JWT_Secure_Key_!#8125725307Akhil@2025_JWT_Secure_Key_!#8125725307";
     private static final SecretKey SECRET_KEY = Keys.hmacShaKeyFor(SECRET.getBytes());
     private static final long EXPIRATION_TIME = 1000 * 60 * 60 * 10; // 10 hours
 
+    // parsers are immutable and thread-safe, so one instance serves every request
+    private static final JwtParser PARSER = Jwts.parserBuilder()
+            .setSigningKey(SECRET_KEY)
+            .build();
+
+    // sha-256(token) -> claims of tokens whose signature was already verified.
+    // Each entry lives only until the token's own expiry.
+    private final Cache<String, Claims> verifiedTokens;
+
+    public JWT(MeterRegistry meterRegistry,
+               @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheSize) {
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        long millisLeft = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(millisLeft, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified");
+    }
+
     public String generateToken(Integer id, String name, String email) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("empId", id);
@@ -92,22 +143,35 @@ public class JWT {
     }
 
     public Claims validateToken(String token) {
-        try {
-            System.out.println("Validating token: " + token);
+        String key = hash(token);
+        Claims cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && cached.getExpiration().after(new Date())) {
+            return cached;
+        }
 
-            return Jwts.parserBuilder()
-                    .setSigningKey(SECRET_KEY)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+        try {
+            Claims claims = PARSER.parseClaimsJws(token).getBody();
+            if (claims.getExpiration() != null) {
+                verifiedTokens.put(key, claims);
+            }
+            return claims;
 
         } catch (ExpiredJwtException e) {
-            System.out.println("JWT Token expired: " + e.getMessage());
+            log.debug("JWT token expired at {}", e.getClaims().getExpiration());
         } catch (MalformedJwtException e) {
-            System.out.println("Invalid JWT Token: " + e.getMessage());
+            log.debug("Malformed JWT token: {}", Redaction.token(token));
         } catch (Exception e) {
-            System.out.println("JWT Validation error: " + e.getMessage());
+            log.debug("JWT validation error ({}): {}", e.getClass().getSimpleName(), Redaction.token(token));
         }
         return null;
     }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
 }
\ No newline at end of file
@@ -78,11 +78,18 @@
 
 package com.example.Emp_Task.Security;
 
+import com.example.Emp_Task.Logging.Redaction;
+import com.example.Emp_Task.Logging.SampledLogger;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -90,41 +97,86 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Component
 public class JwtAuthFilter extends OncePerRequestFilter {
 
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthFilter.class);
+
     @Autowired
     private JWT jwtUtil;
 
+    // runs on every request - debug lines are sampled, never written per call
+    private final SampledLogger debugLog;
+
+    private enum Outcome { PUBLIC, AUTHENTICATED, REJECTED }
+
+    // time spent in the filter itself (token checks), not in the rest of the chain
+    private final Map<Outcome, Timer> timers = new EnumMap<>(Outcome.class);
+
+    // signed-in employees with these emails also get ROLE_ADMIN (lower case)
+    private final Set<String> adminEmails;
+
+    public JwtAuthFilter(MeterRegistry meterRegistry,
+                         @Value("${logging.auth.sample-rate:100}") long sampleRate,
+                         @Value("${auth.admin-emails:}") List<String> adminEmails) {
+        this.debugLog = new SampledLogger(log, sampleRate);
+        this.adminEmails = adminEmails.stream()
+                .map(String::trim)
+                .filter(email -> !email.isEmpty())
+                .map(String::toLowerCase)
+                .collect(Collectors.toUnmodifiableSet());
+        for (Outcome outcome : Outcome.values()) {
+            timers.put(outcome, Timer.builder("auth.filter")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain)
             throws ServletException, IOException {
 
+        long start = System.nanoTime();
+        Outcome outcome = authenticate(request, response);
+        timers.get(outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (outcome != Outcome.REJECTED) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private Outcome authenticate(HttpServletRequest request, HttpServletResponse response) throws IOException {
         String path = request.getRequestURI();
-        System.out.println("Incoming request: " + path);
+        boolean sampled = debugLog.sample();
+        debugLog.debug(sampled, "Incoming request: {} {}", request.getMethod(), path);
 
         // Public endpoints - no token required
-        if (path.startsWith("/auth/")) {
-            filterChain.doFilter(request, response);
-            return;
+        if (path.startsWith("/auth/") || SecurityConfig.isPublicActuator(path)) {
+            return Outcome.PUBLIC;
         }
 
         // Handle preflight requests
         if ("OPTIONS".equalsIgnoreCase(request.getMethod())) {
-            filterChain.doFilter(request, response);
-            return;
+            return Outcome.PUBLIC;
         }
 
         String authHeader = request.getHeader("Authorization");
-        System.out.println("Auth Header: " + authHeader);
+        debugLog.debug(sampled, "Auth header: {}", Redaction.authHeader(authHeader));
 
         if (authHeader == null || !authHeader.startsWith("Bearer")) {
             sendError(response, "Missing or invalid Authorization header");
-            return;
+            return Outcome.REJECTED;
         }
 
         // FIX: Better token extraction to handle "Bearer Bearer token" case
@@ -132,17 +184,15 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         if (token == null || token.isEmpty()) {
             sendError(response, "Token is empty");
-            return;
+            return Outcome.REJECTED;
         }
 
-        System.out.println("Extracted token: " + token);
-
         try {
             var claims = jwtUtil.validateToken(token);
 
             if (claims == null) {
                 sendError(response, "Invalid or expired token");
-                return;
+                return Outcome.REJECTED;
             }
 
             // Extract claims
@@ -150,30 +200,30 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             String email = claims.getSubject();
             String name = claims.get("name", String.class);
 
-            System.out.println("Authenticated user - ID: " + empId + ", Email: " + email);
+            debugLog.debug(sampled, "Authenticated employee {}", empId);
+
+            List<SimpleGrantedAuthority> authorities = new ArrayList<>(2);
+            authorities.add(new SimpleGrantedAuthority("ROLE_EMPLOYEE"));
+            if (email != null && adminEmails.contains(email.toLowerCase())) {
+                authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
+            }
 
             // Create authentication token
             UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(
-                            email,
-                            null,
-                            Collections.singletonList(new SimpleGrantedAuthority("ROLE_EMPLOYEE"))
-                    );
+                    new UsernamePasswordAuthenticationToken(email, null, authorities);
 
             // Store employee ID in details for easy access in controllers
             authentication.setDetails(empId);
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            System.out.println("Authentication set in SecurityContext");
-
         } catch (Exception e) {
-            System.out.println("Authentication failed: " + e.getMessage());
+            log.debug("Authentication failed for {}: {}", path, e.getMessage());
             sendError(response, "Authentication failed: " + e.getMessage());
-            return;
+            return Outcome.REJECTED;
         }
 
-        filterChain.doFilter(request, response);
+        return Outcome.AUTHENTICATED;
     }
 
     private String extractToken(String authHeader) {
@@ -0,0 +1,32 @@
+package com.example.Emp_Task.Security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+// Matches rows written before passwords were hashed (no "{id}" prefix, raw text).
+// Only ever used for matching; a successful login rewrites the row with the current encoder.
+class LegacyPlaintextPasswordEncoder implements PasswordEncoder {
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        throw new UnsupportedOperationException("plaintext passwords are no longer written");
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String storedPassword) {
+        if (rawPassword == null || storedPassword == null) {
+            return false;
+        }
+        // constant time, so response timing doesn't leak how much of the password matched
+        return MessageDigest.isEqual(
+                rawPassword.toString().getBytes(StandardCharsets.UTF_8),
+                storedPassword.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String storedPassword) {
+        return true;
+    }
+}
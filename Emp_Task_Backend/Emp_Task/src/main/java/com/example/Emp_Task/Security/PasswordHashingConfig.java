@@ -0,0 +1,32 @@
+package com.example.Emp_Task.Security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+@Configuration
+public class PasswordHashingConfig {
+
+    public static final String BCRYPT = "bcrypt";
+
+    // Stored hashes are "{bcrypt}$2a$<cost>$...": the algorithm id and the cost travel with
+    // each row, so raising auth.password.bcrypt-strength only affects new hashes, and older
+    // rows are re-hashed at the new cost the next time their owner logs in.
+    // Rows without a prefix are legacy plaintext and are matched as such.
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int strength) {
+        return delegatingEncoder(strength);
+    }
+
+    static PasswordEncoder delegatingEncoder(int strength) {
+        Map<String, PasswordEncoder> encoders = Map.of(BCRYPT, new BCryptPasswordEncoder(strength));
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(BCRYPT, encoders);
+        encoder.setDefaultPasswordEncoderForMatches(new LegacyPlaintextPasswordEncoder());
+        return encoder;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.Emp_Task.Security;
+
+import org.springframework.security.core.Authentication;
+
+// Checks on the JwtAuthFilter principal: the employee id is in the details,
+// ROLE_ADMIN comes from auth.admin-emails.
+public final class Principals {
+
+    private Principals() {
+    }
+
+    public static boolean isAdmin(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+
+    // acting for empId: signed in as that employee, or as an admin
+    public static boolean actsFor(Authentication authentication, Integer empId) {
+        return empId.equals(authentication.getDetails()) || isAdmin(authentication);
+    }
+}
@@ -1,50 +1,90 @@
 package com.example.Emp_Task.Service;
 
+import com.example.Emp_Task.Cache.EmployeeCache;
 import com.example.Emp_Task.Entity.Employee;
 import com.example.Emp_Task.Repository.EmployeeRepository;
 import com.example.Emp_Task.Security.JWT;
+import com.example.Emp_Task.Security.PasswordHashExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 public class AuthService {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthService.class);
+
     @Autowired
     private EmployeeRepository employeeRepo;
 
+    @Autowired
+    private EmployeeCache employeeCache;
+
     @Autowired
     private JWT jwtUtil;
 
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private PasswordHashExecutor hashExecutor;
 
-    public String register(Employee emp) {
+
+    public CompletableFuture<String> register(Employee emp) {
         Employee check = employeeRepo.findByEmail(emp.getEmail());
         if (check != null) {
-            return "User already exists!";
+            return CompletableFuture.completedFuture("User already exists!");
         }
 
-        employeeRepo.save(emp);
-        return "Employee registered successfully!";
+        return hashExecutor.submit(() -> {
+            emp.setPassword(passwordEncoder.encode(emp.getPassword()));
+            employeeRepo.save(emp);
+            return "Employee registered successfully!";
+        });
     }
 
 
-    public String login(String email, String password) {
-        Employee emp = employeeRepo.findByEmail(email);
+    public CompletableFuture<String> login(String email, String password) {
+        Employee emp = employeeCache.findByEmail(email);
 
 
         if (emp == null) {
-            return "User not found!";
+            return CompletableFuture.completedFuture("User not found!");
         }
 
-        if (!emp.getPassword().equals(password)) {
-            return "Wrong password!";
-        }
+        return hashExecutor.submit(() -> {
+            String stored = emp.getPassword();
+            if (!passwordEncoder.matches(password, stored)) {
+                return "Wrong password!";
+            }
+
+            // legacy plaintext or a lower cost than configured: store a fresh hash
+            if (passwordEncoder.upgradeEncoding(stored)) {
+                rehash(emp, stored, password);
+            }
 
-        // Create JWT token
-        return jwtUtil.generateToken(
-                emp.getId(),
-                emp.getName(),
-                emp.getEmail()
+            // Create JWT token
+            return jwtUtil.generateToken(
+                    emp.getId(),
+                    emp.getName(),
+                    emp.getEmail()
 
-        );
+            );
+        });
+    }
+
+    private void rehash(Employee emp, String oldHash, String password) {
+        try {
+            if (employeeRepo.replacePassword(emp.getId(), oldHash, passwordEncoder.encode(password)) > 0) {
+                employeeCache.evict(emp.getId(), emp.getEmail());
+            }
+        } catch (RuntimeException e) {
+            // the login itself succeeded; the next one retries the upgrade
+            log.warn("Password rehash failed for employee {}", emp.getId(), e);
+        }
     }
 }
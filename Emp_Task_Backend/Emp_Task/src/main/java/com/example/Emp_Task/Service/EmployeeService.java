@@ -1,8 +1,15 @@
 package com.example.Emp_Task.Service;
 
+import com.example.Emp_Task.Cache.EmployeeCache;
+import com.example.Emp_Task.Dto.EmployeeView;
 import com.example.Emp_Task.Entity.Employee;
+import com.example.Emp_Task.Repository.ArchivedTaskRepository;
 import com.example.Emp_Task.Repository.EmployeeRepository;
+import com.example.Emp_Task.Repository.TaskRepository;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 
@@ -10,32 +17,58 @@ import java.util.List;
 public class EmployeeService {
 
     private final EmployeeRepository employeeRepository;
+    private final EmployeeCache employeeCache;
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
 
-    public EmployeeService(EmployeeRepository employeeRepository) {
+    public EmployeeService(EmployeeRepository employeeRepository, EmployeeCache employeeCache,
+                           TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository) {
         this.employeeRepository = employeeRepository;
+        this.employeeCache = employeeCache;
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
     }
 
 
-    public List<Employee> getAllEmployees() {
-        return employeeRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<EmployeeView> getAllEmployees() {
+        return employeeRepository.findAllViews();
     }
 
     public Employee getEmployeeById(Integer id) {
-        return employeeRepository.findById(id)
+        return employeeCache.findById(id)
                 .orElseThrow(() -> new RuntimeException("Employee Not Found"));
     }
 
     public Employee updateEmployee(Integer id, Employee updated) {
-        Employee emp = getEmployeeById(id);
+        // read the row itself, not the cached copy, so we write over current data
+        Employee emp = employeeRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Employee Not Found"));
+        String oldEmail = emp.getEmail();
 
         emp.setName(updated.getName());
         emp.setEmail(updated.getEmail());
+        emp.setPhone(updated.getPhone());
 
 
-        return employeeRepository.save(emp);
+        Employee saved = employeeRepository.save(emp);
+        employeeCache.evict(id, oldEmail, saved.getEmail());
+        return saved;
     }
 
+    // partitioned tasks can't carry the employee FK (V8), so the check it did happens here.
+    // The employee row is locked first: a task being added for them holds a share lock on it,
+    // so that insert either commits before the check sees it or waits until the row is gone.
+    @Transactional
     public void deleteEmployee(Integer id) {
-        employeeRepository.deleteById(id);
+        Employee employee = employeeRepository.findAndLockById(id).orElse(null);
+        if (employee == null) {
+            return;
+        }
+        if (taskRepository.existsByEmployeeId(id) || archivedTaskRepository.existsByEmployeeId(id)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Employee still has tasks");
+        }
+        employeeRepository.delete(employee);
+        employeeCache.evict(id, employee.getEmail());
     }
 }
@@ -0,0 +1,117 @@
+package com.example.Emp_Task.Service;
+
+import com.example.Emp_Task.Dto.TaskCalendar;
+import com.example.Emp_Task.Dto.TaskView;
+import com.example.Emp_Task.Repository.ArchivedTaskRepository;
+import com.example.Emp_Task.Repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+public class TaskCalendarService {
+
+    public enum Bucket {
+        DAY,
+        WEEK
+    }
+
+    private static final Comparator<TaskView> BY_START =
+            Comparator.comparing(TaskView::startDateTime).thenComparing(TaskView::id);
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+
+    @Value("${tasks.calendar.max-days:1100}")
+    private long maxDays;
+
+    @Value("${tasks.calendar.max-employees:100}")
+    private int maxEmployees;
+
+    public TaskCalendarService(TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+    }
+
+    // tasks of the given employees overlapping the days [from, to], grouped by day or ISO week
+    @Transactional(readOnly = true)
+    public TaskCalendar getCalendar(Collection<Integer> empIds, LocalDate from, LocalDate to, Bucket bucket) {
+        if (empIds == null || empIds.isEmpty() || empIds.size() > maxEmployees) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Between 1 and " + maxEmployees + " employees per calendar");
+        }
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= maxDays) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Calendar window must be 1 to " + maxDays + " days");
+        }
+
+        Collection<Integer> ids = new LinkedHashSet<>(empIds);
+        LocalDateTime windowStart = from.atStartOfDay();
+        LocalDateTime windowEnd = to.plusDays(1).atStartOfDay();
+
+        List<TaskView> tasks = new ArrayList<>(taskRepository.findViewsOverlapping(ids, windowStart, windowEnd));
+        tasks.addAll(taskRepository.findOpenEndedViewsStartingBetween(ids, windowStart, windowEnd));
+        // old completed tasks live in tasks_archive (TaskArchiver)
+        tasks.addAll(archivedTaskRepository.findViewsOverlapping(ids, windowStart, windowEnd));
+        tasks.addAll(archivedTaskRepository.findOpenEndedViewsStartingBetween(ids, windowStart, windowEnd));
+        tasks.sort(BY_START);
+
+        // every bucket of the window, empty ones included
+        Map<LocalDate, List<Integer>> buckets = new TreeMap<>();
+        for (LocalDate day = bucketStart(from, bucket); !day.isAfter(to); day = next(day, bucket)) {
+            buckets.put(day, new ArrayList<>());
+        }
+
+        for (TaskView task : tasks) {
+            LocalDate first = max(task.startDateTime().toLocalDate(), from);
+            LocalDate last = min(lastDay(task), to);
+            for (LocalDate day = bucketStart(first, bucket); !day.isAfter(last); day = next(day, bucket)) {
+                buckets.get(day).add(task.id());
+            }
+        }
+
+        List<TaskCalendar.Bucket> result = new ArrayList<>(buckets.size());
+        buckets.forEach((start, list) -> result.add(new TaskCalendar.Bucket(start, list)));
+        return new TaskCalendar(from, to, bucket.name().toLowerCase(), tasks, result);
+    }
+
+    // a task ending exactly at midnight does not reach into that day
+    private static LocalDate lastDay(TaskView task) {
+        LocalDateTime end = task.endDateTime();
+        if (end == null || !end.isAfter(task.startDateTime())) {
+            return task.startDateTime().toLocalDate();
+        }
+        return end.minusNanos(1).toLocalDate();
+    }
+
+    private static LocalDate bucketStart(LocalDate day, Bucket bucket) {
+        return bucket == Bucket.WEEK ? day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)) : day;
+    }
+
+    private static LocalDate next(LocalDate bucketStart, Bucket bucket) {
+        return bucket == Bucket.WEEK ? bucketStart.plusWeeks(1) : bucketStart.plusDays(1);
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.Emp_Task.Service;
+
+import com.example.Emp_Task.Cache.EmployeeCache;
+import com.example.Emp_Task.Dto.EmployeeView;
+import com.example.Emp_Task.Dto.TaskDashboard;
+import com.example.Emp_Task.Dto.TaskPage;
+import com.example.Emp_Task.Dto.TaskStats;
+import com.example.Emp_Task.Dto.TaskView;
+import com.example.Emp_Task.Repository.ArchivedTaskRepository;
+import com.example.Emp_Task.Repository.TaskRepository;
+import com.example.Emp_Task.Stats.TaskStatsService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Builds the page-load dashboard: profile, per-status task slices and counts.
+ * Profile and counts come from the employee cache and the stats aggregate and are fetched
+ * on a small private pool while the request thread runs the task query - one windowed
+ * query for the first page of every status, plus one page of the archive for COMPLETED.
+ * The pool's queue is bounded and a full one runs the work on the request thread, so a
+ * burst of page loads slows down instead of piling up; results are waited for at most
+ * tasks.dashboard.timeout.
+ */
+@Service
+public class TaskDashboardService {
+
+    private static final Comparator<TaskView> BY_ID = Comparator.comparing(TaskView::id);
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final EmployeeCache employeeCache;
+    private final TaskStatsService taskStatsService;
+    private final TransactionTemplate readOnlyTx;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final int defaultSize;
+    private final int maxSize;
+
+    public TaskDashboardService(TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository,
+                                EmployeeCache employeeCache, TaskStatsService taskStatsService,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${tasks.dashboard.threads:4}") int threads,
+                                @Value("${tasks.dashboard.queue-capacity:100}") int queueCapacity,
+                                @Value("${tasks.dashboard.timeout:PT5S}") Duration timeout,
+                                @Value("${tasks.dashboard.default-size:20}") int defaultSize,
+                                @Value("${tasks.page.max-size:500}") int maxSize) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.employeeCache = employeeCache;
+        this.taskStatsService = taskStatsService;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.timeout = timeout;
+        this.defaultSize = defaultSize;
+        this.maxSize = maxSize;
+
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "dashboard-" + count.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public TaskDashboard getDashboard(Integer empId, Integer size) {
+        int perStatus = (size == null || size <= 0) ? defaultSize : Math.min(size, maxSize);
+
+        CompletableFuture<EmployeeView> profile = CompletableFuture.supplyAsync(() -> employeeCache.findById(empId)
+                .map(e -> new EmployeeView(e.getId(), e.getName(), e.getEmail()))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee Not Found")), executor);
+        CompletableFuture<TaskStats> counts = CompletableFuture.supplyAsync(() -> taskStatsService.getStats(empId), executor);
+
+        try {
+            Map<String, TaskPage<TaskView>> slices = readOnlyTx.execute(status -> loadSlices(empId, perStatus));
+            long deadline = System.nanoTime() + timeout.toNanos();
+            return new TaskDashboard(join(profile, deadline), join(counts, deadline), slices);
+        } finally {
+            // no-ops once done; after a failure, work still queued is skipped
+            profile.cancel(true);
+            counts.cancel(true);
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Dashboard timed out, try again shortly");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Dashboard interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // one extra row per status tells whether the slice has a next page
+    private Map<String, TaskPage<TaskView>> loadSlices(Integer empId, int perStatus) {
+        Map<String, List<TaskView>> byStatus = new TreeMap<>();
+        for (Object[] row : taskRepository.findFirstRowsPerStatus(empId, perStatus + 1)) {
+            TaskView view = toView(row);
+            byStatus.computeIfAbsent(view.status(), s -> new ArrayList<>()).add(view);
+        }
+
+        // archived tasks are COMPLETED and usually older, so they come first in id order
+        List<TaskView> archived = archivedTaskRepository.findViewPageAsc(empId, 0, Limit.of(perStatus + 1));
+        if (!archived.isEmpty()) {
+            List<TaskView> completed = byStatus.computeIfAbsent(TaskService.COMPLETED, s -> new ArrayList<>());
+            completed.addAll(archived);
+            completed.sort(BY_ID);
+        }
+
+        Map<String, TaskPage<TaskView>> slices = new LinkedHashMap<>();
+        byStatus.forEach((status, rows) -> {
+            Integer nextCursor = null;
+            if (rows.size() > perStatus) {
+                rows = rows.subList(0, perStatus);
+                nextCursor = rows.get(perStatus - 1).id();
+            }
+            slices.put(status, new TaskPage<>(rows, perStatus, "asc", nextCursor));
+        });
+        return slices;
+    }
+
+    private static TaskView toView(Object[] row) {
+        return new TaskView(((Number) row[0]).intValue(), (String) row[1], (String) row[2],
+                dateTime(row[3]), dateTime(row[4]), dateTime(row[5]),
+                ((Number) row[6]).longValue(), ((Number) row[7]).intValue());
+    }
+
+    // native queries hand back Timestamp or LocalDateTime depending on driver and dialect
+    private static LocalDateTime dateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+}
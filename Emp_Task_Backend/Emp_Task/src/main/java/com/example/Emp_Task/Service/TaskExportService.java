@@ -0,0 +1,109 @@
+package com.example.Emp_Task.Service;
+
+import com.example.Emp_Task.Dto.TaskView;
+import com.example.Emp_Task.Repository.ArchivedTaskRepository;
+import com.example.Emp_Task.Repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+/**
+ * Writes task exports straight from a database cursor to the response. Rows are
+ * projections (nothing enters the persistence context) and each one is serialized
+ * and dropped before the next is read, so memory stays flat however many tasks
+ * there are. Use this instead of {@link TaskService#getAllTasks()} for reporting.
+ *
+ * The fetch size (tasks.export.fetch-size) is set on these statements only; on MySQL
+ * Integer.MIN_VALUE makes Connector/J stream the rows of that one statement, without
+ * turning on cursor fetch for every query of the pool.
+ */
+@Service
+public class TaskExportService {
+
+    public enum Format {
+        NDJSON,
+        JSON
+    }
+
+    private static final int FLUSH_EVERY = 500;
+
+    private final EntityManager entityManager;
+    private final ObjectWriter writer;
+    private final TransactionTemplate readOnlyTx;
+    private final int fetchSize;
+
+    public TaskExportService(EntityManager entityManager, JsonMapper jsonMapper,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${tasks.export.fetch-size:500}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+        // one line per task for NDJSON; flushing is ours to decide, not once per row
+        this.writer = jsonMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    // empId null exports every employee's tasks; live tasks first, then the archived ones
+    public void export(Integer empId, Format format, OutputStream out) {
+        readOnlyTx.executeWithoutResult(status -> {
+            try (JsonGenerator generator = writer.createGenerator(out)) {
+                if (format == Format.JSON) {
+                    generator.writeStartArray();
+                }
+                // one result open at a time: a streamed MySQL result holds the connection until closed
+                int count;
+                try (Stream<TaskView> live = rows(TaskRepository.TASK_VIEW, "t.employee.id", "t.id", empId)) {
+                    count = write(live, generator, 0);
+                }
+                try (Stream<TaskView> archived = rows(ArchivedTaskRepository.ARCHIVED_VIEW, "a.employeeId", "a.id", empId)) {
+                    count = write(archived, generator, count);
+                }
+                if (format == Format.JSON) {
+                    generator.writeEndArray();
+                } else if (count > 0) {
+                    generator.writeRaw('\n');
+                }
+                generator.flush();
+            }
+        });
+    }
+
+    private Stream<TaskView> rows(String view, String employeeColumn, String idColumn, Integer empId) {
+        String where = empId == null ? "" : "where " + employeeColumn + " = :empId ";
+        TypedQuery<TaskView> query = entityManager.createQuery(view + where + "order by " + idColumn, TaskView.class)
+                .setHint(HINT_FETCH_SIZE, fetchSize)
+                .setHint(HINT_READ_ONLY, true);
+        if (empId != null) {
+            query.setParameter("empId", empId);
+        }
+        return query.getResultStream();
+    }
+
+    // returns the running row count
+    private int write(Stream<TaskView> rows, JsonGenerator generator, int written) {
+        int[] count = {written};
+        rows.forEach(row -> {
+            writer.writeValue(generator, row);
+            // push what we have to the client instead of buffering the whole export
+            if (++count[0] % FLUSH_EVERY == 0) {
+                generator.flush();
+            }
+        });
+        return count[0];
+    }
+}
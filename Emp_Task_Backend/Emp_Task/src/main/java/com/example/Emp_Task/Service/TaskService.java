@@ -1,88 +1,411 @@
 package com.example.Emp_Task.Service;
 
+import com.example.Emp_Task.Dto.BulkItemResult;
+import com.example.Emp_Task.Dto.TaskPage;
+import com.example.Emp_Task.Dto.TaskStatusChange;
+import com.example.Emp_Task.Dto.TaskView;
 import com.example.Emp_Task.Entity.Employee;
 import com.example.Emp_Task.Entity.Task;
+import com.example.Emp_Task.Event.TaskChangeEvent;
+import com.example.Emp_Task.Event.TaskSnapshot;
+import com.example.Emp_Task.Repository.ArchivedTaskRepository;
 import com.example.Emp_Task.Repository.EmployeeRepository;
 import com.example.Emp_Task.Repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class TaskService {
 
+    public static final String COMPLETED = "COMPLETED";
+
+    // tasks.description is VARCHAR(255)
+    private static final int MAX_DESCRIPTION_LENGTH = 255;
+    private static final Comparator<TaskView> BY_ID = Comparator.comparing(TaskView::id);
+    private static final Comparator<TaskView> BY_START =
+            Comparator.comparing(TaskView::startDateTime).thenComparing(TaskView::id);
+
     private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
     private final EmployeeRepository employeeRepository;
+    private final ApplicationEventPublisher events;
+
+    @Value("${tasks.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${tasks.page.max-size:500}")
+    private int maxPageSize;
 
-    public TaskService(TaskRepository taskRepository, EmployeeRepository employeeRepository) {
+    @Value("${tasks.bulk.max-items:1000}")
+    private int maxBulkItems;
+
+    public TaskService(TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository,
+                       EmployeeRepository employeeRepository,
+                       ApplicationEventPublisher events) {
         this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
         this.employeeRepository = employeeRepository;
+        this.events = events;
     }
 
     // CREATE Task for employee
+    @Transactional
     public Task addTask(Integer empId, Task task) {
-        Employee employee = employeeRepository.findById(empId)
-                .orElseThrow(() -> new RuntimeException("Employee Not Found"));
+        Employee employee = lockEmployee(empId);
 
+        task.setId(null);
+        task.setVersion(null);
         task.setEmployee(employee);
         task.setStatus("PENDING");
+        task.setCompletedAt(null);
+        defaultStart(task);
 
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        events.publishEvent(TaskChangeEvent.created(TaskSnapshot.of(saved)));
+        return saved;
     }
 
-    // GET tasks for one employee
-    public List<Task> getTasksByEmployee(Integer empId) {
-        return taskRepository.findByEmployeeId(empId);
+    // GET tasks for one employee, archived ones included.
+    // Reads that merge tasks and tasks_archive run in one read-only transaction, so both
+    // queries see the same snapshot and a task being archived shows up exactly once.
+    @Transactional(readOnly = true)
+    public List<TaskView> getTasksByEmployee(Integer empId) {
+        return merge(taskRepository.findViewsByEmployeeId(empId),
+                archivedTaskRepository.findViewsByEmployeeId(empId), BY_ID);
     }
 
-    // GET all tasks
-    public List<Task> getAllTasks() {
-        return taskRepository.findAll();
+    // GET one keyset page of an employee's tasks, optionally filtered by status.
+    // cursor is the last id of the previous page (null for the first page).
+    @Transactional(readOnly = true)
+    public TaskPage<TaskView> getTaskPage(Integer empId, String status, Integer cursor,
+                                          Integer size, String order) {
+
+        int pageSize = (size == null || size <= 0) ? defaultPageSize : Math.min(size, maxPageSize);
+        Sort.Direction direction = order == null || order.isBlank()
+                ? Sort.Direction.ASC
+                : Sort.Direction.fromOptionalString(order)
+                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "order must be asc or desc"));
+
+        // fetch one extra row to know whether another page exists
+        Limit limit = Limit.of(pageSize + 1);
+        List<TaskView> rows;
+
+        // archived tasks are all COMPLETED; both tables are cut at the cursor and the pages merged by id
+        boolean withArchive = status == null || COMPLETED.equals(status);
+        if (direction.isAscending()) {
+            int after = cursor == null ? 0 : cursor;
+            rows = status == null
+                    ? taskRepository.findViewPageAsc(empId, after, limit)
+                    : taskRepository.findViewPageByStatusAsc(empId, status, after, limit);
+            if (withArchive) {
+                rows = merge(rows, archivedTaskRepository.findViewPageAsc(empId, after, limit), BY_ID);
+            }
+        } else {
+            int before = cursor == null ? Integer.MAX_VALUE : cursor;
+            rows = status == null
+                    ? taskRepository.findViewPageDesc(empId, before, limit)
+                    : taskRepository.findViewPageByStatusDesc(empId, status, before, limit);
+            if (withArchive) {
+                rows = merge(rows, archivedTaskRepository.findViewPageDesc(empId, before, limit), BY_ID.reversed());
+            }
+        }
+
+        Integer nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = rows.get(pageSize - 1).id();
+        }
+
+        return new TaskPage<>(rows, pageSize, direction.name().toLowerCase(), nextCursor);
+    }
+
+    // GET all tasks - loads everything; large reports should use TaskExportService
+    @Transactional(readOnly = true)
+    public List<TaskView> getAllTasks() {
+        return merge(taskRepository.findAllViews(), archivedTaskRepository.findAllViews(), BY_ID);
     }
 
     // DELETE task
+    @Transactional
     public void deleteTask(Integer taskId) {
-        taskRepository.deleteById(taskId);
+        taskRepository.findById(taskId).ifPresent(task -> {
+            TaskSnapshot before = TaskSnapshot.of(task);
+            taskRepository.delete(task);
+            events.publishEvent(TaskChangeEvent.deleted(before));
+        });
     }
 
     // get pending tasks
-    public List<Task> getPendingTasks(Integer empId) {
-        return taskRepository.findByEmployeeIdAndStatus(empId, "PENDING");
+    @Transactional(readOnly = true)
+    public List<TaskView> getPendingTasks(Integer empId) {
+        return taskRepository.findViewsByEmployeeIdAndStatus(empId, "PENDING");
     }
 
 
 
     // get completed tasks
-    public List<Task> getCompletedTasks(Integer empId) {
-        return taskRepository.findByEmployeeIdAndStatus(empId, "COMPLETED");
+    @Transactional(readOnly = true)
+    public List<TaskView> getCompletedTasks(Integer empId) {
+        return merge(taskRepository.findViewsByEmployeeIdAndStatus(empId, COMPLETED),
+                archivedTaskRepository.findViewsByEmployeeId(empId), BY_ID);
     }
 
     // get tasks by start date (yyyy-MM-dd)
-    public List<Task> getTasksByStartDate(Integer empId, String date) {
+    @Transactional(readOnly = true)
+    public List<TaskView> getTasksByStartDate(Integer empId, String date) {
 
         LocalDate localDate = LocalDate.parse(date); // convert String → LocalDate
+        LocalDateTime from = localDate.atStartOfDay();
+        LocalDateTime to = localDate.atTime(23, 59, 59);
 
-        return taskRepository.findByEmployeeIdAndStartDateTimeBetween(
-                empId,
-                localDate.atStartOfDay(),
-                localDate.atTime(23, 59, 59)
+        return merge(
+                taskRepository.findViewsByEmployeeIdAndStartDateTimeBetween(empId, from, to),
+                archivedTaskRepository.findViewsByEmployeeIdAndStartDateTimeBetween(empId, from, to),
+                BY_START
         );
     }
 
 
 
+    @Transactional
     public Task updateTask(Integer taskId, Task updatedTask) {
 
         Task oldTask = taskRepository.findById(taskId)
                 .orElseThrow(() -> new RuntimeException("Task Not Found"));
+        TaskSnapshot before = TaskSnapshot.of(oldTask);
+
+        copyEditableFields(updatedTask, oldTask);
 
-        oldTask.setDescription(updatedTask.getDescription());
-        oldTask.setStatus(updatedTask.getStatus());
-        oldTask.setStartDateTime(updatedTask.getStartDateTime());
-        oldTask.setEndDateTime(updatedTask.getEndDateTime());
+        // flush now so the event carries the bumped version
+        Task saved = taskRepository.saveAndFlush(oldTask);
+        events.publishEvent(TaskChangeEvent.updated(before, TaskSnapshot.of(saved)));
+        return saved;
+    }
+
+    // PATCH status - one conditional UPDATE, guarded by the version the client saw.
+    // Listeners need the previous status, which an UPDATE can't hand back on MySQL, so the
+    // previous state comes from one locking column read: it answers 404/409 and holds the
+    // row, so no other write lands between it and the UPDATE.
+    @Transactional
+    public TaskStatusChange changeStatus(Integer taskId, TaskStatusChange change) {
+        if (change == null || change.status() == null || change.version() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "status and version are required");
+        }
+
+        TaskSnapshot before = taskRepository.lockSnapshotById(taskId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task Not Found"));
+        if (!before.version().equals(change.version())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Task was modified by someone else");
+        }
+
+        LocalDateTime completedAt = completedAtFor(before.status(), before.completedAt(), change.status());
+        int updated = taskRepository.updateStatusIfVersion(taskId, change.status(), completedAt, change.version());
+        if (updated == 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Task was modified by someone else");
+        }
+
+        Long newVersion = change.version() + 1;
+        events.publishEvent(TaskChangeEvent.updated(before, before.withStatus(change.status(), completedAt, newVersion)));
+        return new TaskStatusChange(taskId, change.status(), newVersion);
+    }
+
+    // BULK create - one transaction; rows go out as JDBC batches at flush
+    @Transactional
+    public List<BulkItemResult> addTasks(Integer empId, List<Task> tasks) {
+        checkBulkSize(tasks);
+
+        Employee employee = lockEmployee(empId);
+
+        List<BulkItemResult> results = new ArrayList<>(tasks.size());
+        List<Task> accepted = new ArrayList<>(tasks.size());
+        List<Integer> acceptedIndexes = new ArrayList<>(tasks.size());
+
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            if (task == null) {
+                results.add(BulkItemResult.failed(i, null, "Task body missing"));
+                continue;
+            }
+            String invalid = invalidFields(task, task.getStartDateTime() != null ? task.getStartDateTime() : LocalDateTime.now());
+            if (invalid != null) {
+                results.add(BulkItemResult.failed(i, null, invalid));
+                continue;
+            }
+            task.setId(null);
+            task.setVersion(null);
+            task.setEmployee(employee);
+            task.setStatus("PENDING");
+            task.setCompletedAt(null);
+            defaultStart(task);
+            accepted.add(task);
+            acceptedIndexes.add(i);
+            results.add(null);
+        }
+
+        List<Task> saved = taskRepository.saveAll(accepted);
+        for (int i = 0; i < saved.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            results.set(index, BulkItemResult.ok(index, saved.get(i).getId()));
+            events.publishEvent(TaskChangeEvent.created(TaskSnapshot.of(saved.get(i))));
+        }
+        return results;
+    }
+
+    // BULK update - loads every target in one query, dirty rows are flushed as one batch
+    @Transactional
+    public List<BulkItemResult> updateTasks(List<Task> updates) {
+        checkBulkSize(updates);
+
+        Map<Integer, Task> existing = loadById(updates.stream()
+                .filter(t -> t != null && t.getId() != null)
+                .map(Task::getId)
+                .toList());
+
+        List<BulkItemResult> results = new ArrayList<>(updates.size());
+        List<TaskSnapshot> befores = new ArrayList<>();
+        List<Task> changed = new ArrayList<>();
+        for (int i = 0; i < updates.size(); i++) {
+            Task update = updates.get(i);
+            if (update == null || update.getId() == null) {
+                results.add(BulkItemResult.failed(i, null, "Task id missing"));
+                continue;
+            }
+            Task target = existing.get(update.getId());
+            if (target == null) {
+                results.add(BulkItemResult.failed(i, update.getId(), "Task Not Found"));
+                continue;
+            }
+            // checked before anything is copied: target is managed, and a half-applied
+            // change would be flushed with the valid ones
+            String invalid = update.getStatus() == null ? "Status missing"
+                    : invalidFields(update, update.getStartDateTime() != null ? update.getStartDateTime() : target.getStartDateTime());
+            if (invalid != null) {
+                results.add(BulkItemResult.failed(i, update.getId(), invalid));
+                continue;
+            }
+            befores.add(TaskSnapshot.of(target));
+            copyEditableFields(update, target);
+            changed.add(target);
+            results.add(BulkItemResult.ok(i, target.getId()));
+        }
+
+        // one batched flush; versions are bumped after this
+        taskRepository.flush();
+        for (int i = 0; i < changed.size(); i++) {
+            events.publishEvent(TaskChangeEvent.updated(befores.get(i), TaskSnapshot.of(changed.get(i))));
+        }
+        return results;
+    }
+
+    // BULK delete - a single DELETE ... WHERE id IN (...) for the ids that exist
+    @Transactional
+    public List<BulkItemResult> deleteTasks(List<Integer> taskIds) {
+        checkBulkSize(taskIds);
+
+        Map<Integer, Task> existing = loadById(taskIds.stream().filter(id -> id != null).toList());
+
+        List<BulkItemResult> results = new ArrayList<>(taskIds.size());
+        for (int i = 0; i < taskIds.size(); i++) {
+            Integer id = taskIds.get(i);
+            if (id == null) {
+                results.add(BulkItemResult.failed(i, null, "Task id missing"));
+            } else if (!existing.containsKey(id)) {
+                results.add(BulkItemResult.failed(i, id, "Task Not Found"));
+            } else {
+                results.add(BulkItemResult.ok(i, id));
+            }
+        }
+
+        taskRepository.deleteAllInBatch(existing.values());
+        existing.values().forEach(task -> events.publishEvent(TaskChangeEvent.deleted(TaskSnapshot.of(task))));
+        return results;
+    }
+
+    // per-item checks for bulk requests: values the database would reject, failing the whole
+    // batch, or that make no sense as a task; start is the one the task will end up with
+    private static String invalidFields(Task task, LocalDateTime start) {
+        if (task.getDescription() != null && task.getDescription().length() > MAX_DESCRIPTION_LENGTH) {
+            return "Description is longer than " + MAX_DESCRIPTION_LENGTH + " characters";
+        }
+        if (task.getEndDateTime() != null && start != null && task.getEndDateTime().isBefore(start)) {
+            return "endDateTime is before startDateTime";
+        }
+        return null;
+    }
+
+    // share lock on the employee until commit, so deleteEmployee can't remove them in between
+    // its no-tasks check and this insert (there is no FK to stop it on partitioned tables)
+    private Employee lockEmployee(Integer empId) {
+        return employeeRepository.findAndShareLockById(empId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee Not Found"));
+    }
+
+    private Map<Integer, Task> loadById(List<Integer> ids) {
+        return taskRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    private void checkBulkSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No items in bulk request");
+        }
+        if (items.size() > maxBulkItems) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Bulk request has " + items.size() + " items, limit is " + maxBulkItems);
+        }
+    }
+
+    private static void copyEditableFields(Task from, Task to) {
+        to.setDescription(from.getDescription());
+        to.setCompletedAt(completedAtFor(to.getStatus(), to.getCompletedAt(), from.getStatus()));
+        to.setStatus(from.getStatus());
+        // start_date_time is the partitioning column and NOT NULL on MySQL; no start means keep the old one
+        if (from.getStartDateTime() != null) {
+            to.setStartDateTime(from.getStartDateTime());
+        }
+        to.setEndDateTime(from.getEndDateTime());
+    }
+
+    // tasks created without a start are partitioned (and shown) as starting now
+    private static void defaultStart(Task task) {
+        if (task.getStartDateTime() == null) {
+            task.setStartDateTime(LocalDateTime.now());
+        }
+    }
+
+    // live and archived rows never share an id; each list already comes sorted by order
+    private static List<TaskView> merge(List<TaskView> live, List<TaskView> archived, Comparator<TaskView> order) {
+        if (archived.isEmpty()) {
+            return live;
+        }
+        List<TaskView> merged = new ArrayList<>(live.size() + archived.size());
+        merged.addAll(live);
+        merged.addAll(archived);
+        merged.sort(order);
+        return merged;
+    }
 
-        return taskRepository.save(oldTask);
+    // completedAt is stamped on the transition into COMPLETED and cleared when a task is reopened
+    private static LocalDateTime completedAtFor(String oldStatus, LocalDateTime oldCompletedAt, String newStatus) {
+        if (!COMPLETED.equals(newStatus)) {
+            return null;
+        }
+        return COMPLETED.equals(oldStatus) && oldCompletedAt != null ? oldCompletedAt : LocalDateTime.now();
     }
 
 
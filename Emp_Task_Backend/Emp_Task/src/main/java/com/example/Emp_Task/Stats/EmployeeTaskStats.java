@@ -0,0 +1,91 @@
+package com.example.Emp_Task.Stats;
+
+import com.example.Emp_Task.Dto.TaskStats;
+import com.example.Emp_Task.Event.TaskSnapshot;
+import com.example.Emp_Task.Service.TaskService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Running totals for one employee's tasks, kept in step with task writes so
+ * reads never have to count rows. Deadlines of open tasks are kept sorted, so
+ * "overdue right now" is a head-map size rather than a scan.
+ */
+public class EmployeeTaskStats {
+
+    private final Map<String, Long> countsByStatus = new TreeMap<>();
+    private final TreeMap<LocalDateTime, Integer> openDeadlines = new TreeMap<>();
+    private final TreeMap<LocalDate, Long> completedPerDay = new TreeMap<>();
+    // add/remove calls so far; a rebuild checks it to see whether a change landed meanwhile
+    private long changes;
+
+    public synchronized void add(TaskSnapshot task) {
+        changes++;
+        countsByStatus.merge(task.status(), 1L, Long::sum);
+        if (isOpen(task) && task.endDateTime() != null) {
+            openDeadlines.merge(task.endDateTime(), 1, Integer::sum);
+        }
+        if (isCompleted(task) && task.completedAt() != null) {
+            completedPerDay.merge(task.completedAt().toLocalDate(), 1L, Long::sum);
+        }
+    }
+
+    public synchronized void remove(TaskSnapshot task) {
+        changes++;
+        decrement(countsByStatus, task.status(), 1L);
+        if (isOpen(task) && task.endDateTime() != null) {
+            openDeadlines.computeIfPresent(task.endDateTime(), (k, n) -> n > 1 ? n - 1 : null);
+        }
+        if (isCompleted(task) && task.completedAt() != null) {
+            decrement(completedPerDay, task.completedAt().toLocalDate(), 1L);
+        }
+    }
+
+    synchronized long changes() {
+        return changes;
+    }
+
+    // bulk loaders used when the aggregate is built from the database
+    synchronized void putStatusCount(String status, long count) {
+        countsByStatus.put(status, count);
+    }
+
+    synchronized void addOpenDeadline(LocalDateTime deadline) {
+        openDeadlines.merge(deadline, 1, Integer::sum);
+    }
+
+    synchronized void addCompletion(LocalDateTime completedAt) {
+        completedPerDay.merge(completedAt.toLocalDate(), 1L, Long::sum);
+    }
+
+    public synchronized TaskStats toStats(Integer employeeId, LocalDateTime now, LocalDate completedSince) {
+        // old days are never asked for again
+        completedPerDay.headMap(completedSince.minusDays(1)).clear();
+
+        long total = countsByStatus.values().stream().mapToLong(Long::longValue).sum();
+        long overdue = openDeadlines.headMap(now).values().stream().mapToLong(Integer::longValue).sum();
+
+        return new TaskStats(
+                employeeId,
+                total,
+                new TreeMap<>(countsByStatus),
+                overdue,
+                new TreeMap<>(completedPerDay.tailMap(completedSince))
+        );
+    }
+
+    private static boolean isOpen(TaskSnapshot task) {
+        return !TaskService.COMPLETED.equals(task.status());
+    }
+
+    private static boolean isCompleted(TaskSnapshot task) {
+        return TaskService.COMPLETED.equals(task.status());
+    }
+
+    private static <K> void decrement(Map<K, Long> map, K key, long by) {
+        map.computeIfPresent(key, (k, n) -> n > by ? n - by : null);
+    }
+}
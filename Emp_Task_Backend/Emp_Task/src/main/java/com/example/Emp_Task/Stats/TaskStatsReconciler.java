@@ -0,0 +1,71 @@
+package com.example.Emp_Task.Stats;
+
+import com.example.Emp_Task.Dto.TaskStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Rebuilds every cached stats aggregate from the database and reports any
+// difference from the incrementally maintained copy before replacing it.
+@Component
+public class TaskStatsReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskStatsReconciler.class);
+
+    private final TaskStatsService statsService;
+    private final Counter driftCounter;
+
+    public TaskStatsReconciler(TaskStatsService statsService, MeterRegistry meterRegistry) {
+        this.statsService = statsService;
+        this.driftCounter = Counter.builder("tasks.stats.drift")
+                .description("Employees whose incremental task stats differed from a full rebuild")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.stats.reconcile-interval:PT15M}",
+            initialDelayString = "${tasks.stats.reconcile-interval:PT15M}")
+    public void reconcile() {
+        int drifted = 0;
+        for (Integer empId : statsService.cachedEmployeeIds()) {
+            if (reconcile(empId)) {
+                drifted++;
+            }
+        }
+        if (drifted > 0) {
+            log.warn("Task stats reconciliation corrected {} employee aggregate(s)", drifted);
+        }
+    }
+
+    // true when the rebuilt aggregate differed from the live one; an aggregate that was evicted
+    // or changed while the rebuild loaded is left alone until the next run
+    public boolean reconcile(Integer empId) {
+        EmployeeTaskStats previous = statsService.cached(empId);
+        if (previous == null) {
+            return false;
+        }
+        long changes = previous.changes();
+        EmployeeTaskStats rebuilt = statsService.load(empId);
+        if (!statsService.replaceIfUnchanged(empId, previous, changes, rebuilt)) {
+            log.debug("Task stats for employee {} changed during the rebuild, reconciling next run", empId);
+            return false;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate since = statsService.completionWindowStart();
+        TaskStats expected = rebuilt.toStats(empId, now, since);
+        TaskStats actual = previous.toStats(empId, now, since);
+        if (expected.equals(actual)) {
+            return false;
+        }
+
+        driftCounter.increment();
+        log.warn("Task stats drift for employee {}: incremental={} rebuilt={}", empId, actual, expected);
+        return true;
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.Emp_Task.Stats;
+
+import com.example.Emp_Task.Database.ReplicaRouting;
+import com.example.Emp_Task.Dto.TaskStats;
+import com.example.Emp_Task.Event.TaskChangeBroadcast;
+import com.example.Emp_Task.Event.TaskChangeEvent;
+import com.example.Emp_Task.Repository.ArchivedTaskRepository;
+import com.example.Emp_Task.Repository.TaskRepository;
+import com.example.Emp_Task.Service.TaskService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Per-employee task statistics served from an in-memory aggregate.
+ * An employee's aggregate is built from the database on first request and from
+ * then on updated from committed {@link TaskChangeEvent}s, as broadcast to every node
+ * (each node keeps its own aggregates); the {@link TaskStatsReconciler} periodically
+ * rebuilds it to catch drift.
+ */
+@Service
+public class TaskStatsService {
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final Cache<Integer, EmployeeTaskStats> aggregates;
+    private final int completionDays;
+
+    public TaskStatsService(TaskRepository taskRepository,
+                            ArchivedTaskRepository archivedTaskRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${tasks.stats.max-employees:10000}") long maxEmployees,
+                            @Value("${tasks.stats.completion-days:30}") int completionDays) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.completionDays = completionDays;
+        this.aggregates = Caffeine.newBuilder()
+                .maximumSize(maxEmployees)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, aggregates, "tasks.stats");
+    }
+
+    public TaskStats getStats(Integer empId) {
+        EmployeeTaskStats stats = aggregates.get(empId, this::load);
+        return stats.toStats(empId, LocalDateTime.now(), completionWindowStart());
+    }
+
+    // broadcasts are committed changes only, so a rolled back write never moves the counters
+    @EventListener
+    public void onBroadcast(TaskChangeBroadcast broadcast) {
+        TaskChangeEvent event = broadcast.event();
+        if (event.before() != null && event.before().employeeId() != null) {
+            aggregates.asMap().computeIfPresent(event.before().employeeId(), (id, stats) -> {
+                stats.remove(event.before());
+                return stats;
+            });
+        }
+        if (event.after() != null && event.after().employeeId() != null) {
+            aggregates.asMap().computeIfPresent(event.after().employeeId(), (id, stats) -> {
+                stats.add(event.after());
+                return stats;
+            });
+        }
+    }
+
+    // full rebuild from the tasks table - on the primary, later changes are applied as deltas
+    // and a lagging replica would leave the aggregate permanently behind
+    EmployeeTaskStats load(Integer empId) {
+        return ReplicaRouting.onPrimary(() -> loadFromTasks(empId));
+    }
+
+    // archived tasks still count: archival moves rows without a change event, so the
+    // incrementally maintained aggregate keeps them and a rebuild has to as well
+    private EmployeeTaskStats loadFromTasks(Integer empId) {
+        EmployeeTaskStats stats = new EmployeeTaskStats();
+        long archived = archivedTaskRepository.countByEmployeeId(empId);
+        boolean completedCounted = false;
+        for (Object[] row : taskRepository.countByStatus(empId)) {
+            String status = (String) row[0];
+            long count = ((Number) row[1]).longValue();
+            if (TaskService.COMPLETED.equals(status)) {
+                count += archived;
+                completedCounted = true;
+            }
+            stats.putStatusCount(status, count);
+        }
+        if (!completedCounted && archived > 0) {
+            stats.putStatusCount(TaskService.COMPLETED, archived);
+        }
+        taskRepository.findOpenDeadlines(empId).forEach(stats::addOpenDeadline);
+        LocalDateTime since = completionWindowStart().atStartOfDay();
+        taskRepository.findCompletionTimesSince(empId, since).forEach(stats::addCompletion);
+        archivedTaskRepository.findCompletionTimesSince(empId, since).forEach(stats::addCompletion);
+        return stats;
+    }
+
+    Set<Integer> cachedEmployeeIds() {
+        return Set.copyOf(aggregates.asMap().keySet());
+    }
+
+    EmployeeTaskStats cached(Integer empId) {
+        return aggregates.getIfPresent(empId);
+    }
+
+    // swap in a rebuilt aggregate, but only while the live one is still the given instance and
+    // no change was applied to it since changesAtLoad: a delta that landed during the load may
+    // or may not be in the rebuild, and replacing would lose or double it. Deltas go through
+    // computeIfPresent on the same key, so none can slip in between the check and the swap.
+    boolean replaceIfUnchanged(Integer empId, EmployeeTaskStats live, long changesAtLoad,
+                               EmployeeTaskStats rebuilt) {
+        EmployeeTaskStats current = aggregates.asMap().computeIfPresent(empId, (id, stats) ->
+                stats == live && stats.changes() == changesAtLoad ? rebuilt : stats);
+        return current == rebuilt;
+    }
+
+    LocalDate completionWindowStart() {
+        return LocalDate.now().minusDays(completionDays - 1L);
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.Emp_Task.Stream;
+
+import com.example.Emp_Task.Dto.TaskDelta;
+import com.example.Emp_Task.Dto.TaskView;
+import com.example.Emp_Task.Event.TaskChangeBroadcast;
+import com.example.Emp_Task.Event.TaskChangeEvent;
+import com.example.Emp_Task.Event.TaskSnapshot;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-sent event connections per employee. Every node holds only its own
+ * connections and pushes the {@link TaskChangeBroadcast}s it receives to them,
+ * so a change made on any node reaches every open browser tab of that employee.
+ * <p>
+ * Writes never happen on the publishing thread: each connection has a bounded queue
+ * drained by a small private pool, one drain per connection at a time so events keep
+ * their order. A client that lets its queue fill up is disconnected - it reconnects
+ * and reloads its list rather than silently missing changes.
+ */
+@Component
+public class TaskStreamHub {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskStreamHub.class);
+
+    private final Map<Integer, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+    private final int maxPerEmployee;
+    private final int queueCapacity;
+    // at most one drain task per connection is queued, so the backlog is bounded by the
+    // number of open connections
+    private final ExecutorService senders;
+
+    public TaskStreamHub(MeterRegistry meterRegistry,
+                         @Value("${tasks.stream.timeout:PT30M}") Duration timeout,
+                         @Value("${tasks.stream.max-per-employee:5}") int maxPerEmployee,
+                         @Value("${tasks.stream.queue-capacity:100}") int queueCapacity,
+                         @Value("${tasks.stream.send-threads:2}") int sendThreads) {
+        this.timeoutMillis = timeout.toMillis();
+        this.maxPerEmployee = maxPerEmployee;
+        this.queueCapacity = queueCapacity;
+        AtomicInteger count = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(sendThreads, r -> {
+            Thread t = new Thread(r, "task-stream-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        Gauge.builder("tasks.stream.connections", this, TaskStreamHub::connectionCount)
+                .description("Open task change streams on this node")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdownNow();
+    }
+
+    public SseEmitter subscribe(Integer empId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Connection connection = new Connection(empId, emitter);
+        boolean[] added = {false};
+        connections.compute(empId, (id, set) -> {
+            Set<Connection> current = set != null ? set : ConcurrentHashMap.newKeySet();
+            if (current.size() < maxPerEmployee) {
+                added[0] = current.add(connection);
+            }
+            return current;
+        });
+        if (!added[0]) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many open task streams");
+        }
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+
+        // first write commits the response, so the client sees the stream is open
+        connection.enqueue(SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    @EventListener
+    public void onBroadcast(TaskChangeBroadcast broadcast) {
+        TaskChangeEvent event = broadcast.event();
+        TaskSnapshot before = event.before();
+        TaskSnapshot after = event.after();
+        String type = event.type().name();
+
+        // a task moved to another employee disappears from the old owner's list
+        if (before != null && after != null && !Objects.equals(before.employeeId(), after.employeeId())) {
+            deliver(before.employeeId(), new TaskDelta(type, before.id(), null));
+        }
+        if (after != null) {
+            deliver(after.employeeId(), new TaskDelta(type, after.id(), TaskView.of(after)));
+        } else {
+            deliver(before.employeeId(), new TaskDelta(type, before.id(), null));
+        }
+    }
+
+    // keeps idle connections from being cut by proxies and finds dead clients
+    @Scheduled(fixedRateString = "${tasks.stream.heartbeat-interval:PT25S}")
+    public void heartbeat() {
+        connections.values().forEach(set ->
+                set.forEach(connection -> connection.enqueue(SseEmitter.event().comment("ping"))));
+    }
+
+    int connectionCount() {
+        return connections.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void deliver(Integer empId, TaskDelta delta) {
+        if (empId == null) {
+            return;
+        }
+        Set<Connection> set = connections.get(empId);
+        if (set == null) {
+            return;
+        }
+        for (Connection connection : set) {
+            connection.enqueue(SseEmitter.event().name("task").data(delta, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private void remove(Connection connection) {
+        connections.computeIfPresent(connection.empId, (id, set) -> {
+            set.remove(connection);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    // one open stream: its pending events and whether a sender is draining them
+    private final class Connection {
+
+        private final Integer empId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Connection(Integer empId, SseEmitter emitter) {
+            this.empId = empId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (size.incrementAndGet() > queueCapacity) {
+                size.decrementAndGet();
+                log.debug("Task stream for employee {} fell {} events behind, closing it", empId, queueCapacity);
+                close();
+                return;
+            }
+            pending.add(event);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // shutting down
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            SseEmitter.SseEventBuilder event;
+            while ((event = pending.poll()) != null) {
+                size.decrementAndGet();
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // client went away; the container calls onError/onCompletion, drop it now anyway
+                    log.debug("Dropping task stream for employee {}: {}", empId, e.getMessage());
+                    close();
+                    return;
+                }
+            }
+            draining.set(false);
+            // an event queued after the last poll but before the flag cleared
+            if (!pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void close() {
+            remove(this);
+            pending.clear();
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+-- Unassigned work. Claiming an OPEN row (SKIP LOCKED) creates a normal task for the claimer and
+-- leases the row to them; a lease that runs out before the task is COMPLETED puts the row back.
+-- status: OPEN -> CLAIMED -> DONE, CLAIMED -> OPEN on lease expiry
+CREATE TABLE task_pool (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    description      VARCHAR(255),
+    start_date_time  DATETIME(6),
+    end_date_time    DATETIME(6),
+    status           VARCHAR(16)  NOT NULL,
+    claimed_by       INT,
+    task_id          INT,
+    lease_expires_at DATETIME(6),
+    attempts         INT          NOT NULL DEFAULT 0,
+    created_at       DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- claim (status = 'OPEN' in id order) and requeue (status = 'CLAIMED' and lease_expires_at < now)
+CREATE INDEX idx_task_pool_status_lease ON task_pool (status, lease_expires_at);
+-- lease renewal by the claimed task's id
+CREATE INDEX idx_task_pool_task ON task_pool (task_id);
@@ -0,0 +1,4 @@
+-- keyset pages without a status filter: employee_id = ? AND id > ? ORDER BY id.
+-- idx_tasks_employee_status took over the FK index on MySQL and V8 dropped the FK and moved
+-- the primary key to (id, start_date_time), so nothing else serves this order.
+CREATE INDEX idx_tasks_employee_id ON tasks (employee_id, id);
@@ -0,0 +1,22 @@
+-- Schema as it was generated by spring.jpa.hibernate.ddl-auto=update.
+-- Databases that already have these tables are baselined at this version.
+
+CREATE TABLE IF NOT EXISTS employees (
+    id       INT          NOT NULL AUTO_INCREMENT,
+    name     VARCHAR(255),
+    email    VARCHAR(255),
+    password VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_employees_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id              INT          NOT NULL AUTO_INCREMENT,
+    description     VARCHAR(255),
+    status          VARCHAR(255) NOT NULL,
+    start_date_time DATETIME(6),
+    end_date_time   DATETIME(6),
+    employee_id     INT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_tasks_employee FOREIGN KEY (employee_id) REFERENCES employees (id)
+);
@@ -0,0 +1,8 @@
+-- findByEmployeeIdAndStatus and the status-filtered keyset pages
+CREATE INDEX idx_tasks_employee_status ON tasks (employee_id, status);
+
+-- findByEmployeeIdAndStartDateTimeBetween
+CREATE INDEX idx_tasks_employee_start ON tasks (employee_id, start_date_time);
+
+-- pending/overdue lookups across all employees
+CREATE INDEX idx_tasks_status_end ON tasks (status, end_date_time);
@@ -0,0 +1,11 @@
+-- Task ids move from AUTO_INCREMENT to a pooled table generator so that
+-- Hibernate can batch inserts. The first block handed out starts above
+-- every existing id (pool end = stored value, start = stored value - 49).
+CREATE TABLE id_generators (
+    gen_name  VARCHAR(255) NOT NULL,
+    gen_value BIGINT       NOT NULL,
+    PRIMARY KEY (gen_name)
+);
+
+INSERT INTO id_generators (gen_name, gen_value)
+SELECT 'tasks', COALESCE(MAX(id), 0) + 100 FROM tasks;
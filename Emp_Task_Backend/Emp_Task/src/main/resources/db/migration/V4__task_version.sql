@@ -0,0 +1,2 @@
+-- optimistic-locking version for Task (@Version) and the PATCH status endpoint
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,3 @@
+-- When a task was last marked COMPLETED; drives per-day completion totals.
+-- Tasks completed before this column existed keep NULL - there is no record of when that happened.
+ALTER TABLE tasks ADD COLUMN completed_at DATETIME(6);
@@ -0,0 +1,3 @@
+-- calendar window queries: end_date_time >= from AND start_date_time < to per employee.
+-- start_date_time is included so the second bound is checked in the index, not the row.
+CREATE INDEX idx_tasks_employee_end ON tasks (employee_id, end_date_time, start_date_time);
@@ -0,0 +1,23 @@
+-- SMS number for notifications; employees without one are skipped
+ALTER TABLE employees ADD COLUMN phone VARCHAR(32);
+
+-- Notifications written in the same transaction as the task change and sent later
+-- by NotificationDispatcher. status: PENDING -> SENDING -> SENT | FAILED | SKIPPED
+CREATE TABLE notification_outbox (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    employee_id     INT          NOT NULL,
+    kind            VARCHAR(32)  NOT NULL,
+    task_id         INT,
+    detail          VARCHAR(255),
+    status          VARCHAR(16)  NOT NULL,
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    claimed_until   DATETIME(6),
+    created_at      DATETIME(6)  NOT NULL,
+    sent_at         DATETIME(6),
+    last_error      VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+-- the dispatcher's claim query
+CREATE INDEX idx_outbox_status_next ON notification_outbox (status, next_attempt_at);
@@ -0,0 +1,20 @@
+-- COMPLETED tasks older than tasks.archive.completed-age, moved out of tasks by TaskArchiver.
+-- Same columns as tasks plus archived_at; rows are never updated once here.
+CREATE TABLE tasks_archive (
+    id              INT          NOT NULL,
+    description     VARCHAR(255),
+    status          VARCHAR(255) NOT NULL,
+    start_date_time DATETIME(6),
+    end_date_time   DATETIME(6),
+    completed_at    DATETIME(6),
+    version         BIGINT       NOT NULL,
+    employee_id     INT          NOT NULL,
+    archived_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- per-employee reads: lists and keyset pages by id (InnoDB appends the primary key),
+-- by start date and calendar windows
+CREATE INDEX idx_tasks_archive_employee ON tasks_archive (employee_id);
+CREATE INDEX idx_tasks_archive_employee_start ON tasks_archive (employee_id, start_date_time);
+CREATE INDEX idx_tasks_archive_employee_end ON tasks_archive (employee_id, end_date_time, start_date_time);
@@ -0,0 +1,74 @@
+package com.example.Emp_Task.Archive;
+
+import com.example.Emp_Task.Dto.TaskView;
+import com.example.Emp_Task.Service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TaskArchiverTest {
+
+	private static final LocalDateTime OLD = LocalDateTime.now().minusYears(2);
+
+	@Autowired
+	private TaskArchiver archiver;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	private Integer empId;
+
+	@BeforeEach
+	void seed() {
+		jdbc.update("INSERT INTO employees (name, email, password) VALUES ('arch', 'arch@archive.test', 'x')");
+		empId = jdbc.queryForObject("SELECT id FROM employees WHERE email = 'arch@archive.test'", Integer.class);
+		insertTask(2_000_001, "COMPLETED", OLD, OLD.plusHours(2));
+		insertTask(2_000_002, "COMPLETED", LocalDateTime.now().minusDays(1), LocalDateTime.now().minusDays(1));
+		insertTask(2_000_003, "PENDING", OLD, null);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		jdbc.update("DELETE FROM tasks_archive WHERE employee_id = ?", empId);
+		jdbc.update("DELETE FROM tasks WHERE employee_id = ?", empId);
+		jdbc.update("DELETE FROM employees WHERE id = ?", empId);
+	}
+
+	@Test
+	void movesOnlyOldCompletedTasksAndReadsStillFindThem() {
+		archiver.archive();
+
+		assertThat(jdbc.queryForList("SELECT id FROM tasks WHERE employee_id = ?", Integer.class, empId))
+				.containsExactlyInAnyOrder(2_000_002, 2_000_003);
+		assertThat(jdbc.queryForList("SELECT id FROM tasks_archive WHERE employee_id = ?", Integer.class, empId))
+				.containsExactly(2_000_001);
+
+		assertThat(taskService.getCompletedTasks(empId)).extracting(TaskView::id)
+				.containsExactly(2_000_001, 2_000_002);
+		assertThat(taskService.getTasksByEmployee(empId)).extracting(TaskView::id)
+				.containsExactly(2_000_001, 2_000_002, 2_000_003);
+		assertThat(taskService.getTasksByStartDate(empId, OLD.toLocalDate().toString())).extracting(TaskView::id)
+				.containsExactly(2_000_001, 2_000_003);
+		assertThat(taskService.getTaskPage(empId, null, null, 2, "asc").items()).extracting(TaskView::id)
+				.containsExactly(2_000_001, 2_000_002);
+	}
+
+	private void insertTask(int id, String status, LocalDateTime start, LocalDateTime completedAt) {
+		jdbc.update("INSERT INTO tasks (id, description, status, start_date_time, end_date_time, completed_at, employee_id) "
+						+ "VALUES (?, ?, ?, ?, ?, ?, ?)",
+				id, "task " + id, status, Timestamp.valueOf(start), Timestamp.valueOf(start.plusHours(1)),
+				completedAt == null ? null : Timestamp.valueOf(completedAt), empId);
+	}
+}
@@ -0,0 +1,126 @@
+package com.example.Emp_Task.Cache;
+
+import com.example.Emp_Task.Entity.Employee;
+import com.example.Emp_Task.Repository.EmployeeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class EmployeeCacheTest {
+
+	private EmployeeRepository repository;
+	private LocalEmployeeCacheTier sharedTier;
+	private EmployeeCache cache;
+
+	@BeforeEach
+	void setUp() {
+		repository = mock(EmployeeRepository.class);
+		sharedTier = new LocalEmployeeCacheTier();
+		cache = new EmployeeCache(repository, sharedTier, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+	}
+
+	@Test
+	void secondLookupIsServedFromCache() {
+		when(repository.findById(1)).thenReturn(Optional.of(employee(1, "a@x.com")));
+
+		cache.findById(1);
+		cache.findById(1);
+		cache.findByEmail("a@x.com");
+
+		verify(repository, times(1)).findById(1);
+		verify(repository, never()).findByEmail(anyString());
+	}
+
+	@Test
+	void sharedTierIsUsedWhenLocalTierMisses() {
+		sharedTier.put(employee(2, "b@x.com"), sharedTier.generation());
+
+		assertThat(cache.findById(2)).map(Employee::getEmail).contains("b@x.com");
+		verifyNoInteractions(repository);
+	}
+
+	@Test
+	void evictDropsBothTiersAndStaleEmailMapping() {
+		when(repository.findById(3)).thenReturn(Optional.of(employee(3, "old@x.com")));
+		cache.findById(3);
+
+		when(repository.findById(3)).thenReturn(Optional.of(employee(3, "new@x.com")));
+		cache.evict(3, "old@x.com", "new@x.com");
+
+		assertThat(sharedTier.get(3)).isNull();
+		assertThat(cache.findByEmail("old@x.com")).isNull();
+		assertThat(cache.findById(3)).map(Employee::getEmail).contains("new@x.com");
+	}
+
+	@Test
+	void evictInATransactionWaitsForTheCommit() {
+		when(repository.findById(4)).thenReturn(Optional.of(employee(4, "d@x.com")));
+		cache.findById(4);
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			cache.evict(4, "d@x.com");
+			// a fill before the commit would still read the old row, so nothing is dropped yet
+			assertThat(sharedTier.get(4)).isNotNull();
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertThat(sharedTier.get(4)).isNull();
+		cache.findById(4);
+		verify(repository, times(2)).findById(4);
+	}
+
+	@Test
+	void databaseFillIsReadThroughForOtherNodes() {
+		when(repository.findById(5)).thenReturn(Optional.of(employee(5, "e@x.com")));
+		cache.findById(5);
+
+		EmployeeCache otherNode = new EmployeeCache(repository, sharedTier, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+		assertThat(otherNode.findById(5)).map(Employee::getEmail).contains("e@x.com");
+		assertThat(otherNode.findByEmail("e@x.com")).extracting(Employee::getId).isEqualTo(5);
+		verify(repository, times(1)).findById(5);
+	}
+
+	@Test
+	void fillThatRacedAnEvictIsNotWrittenBack() {
+		// the row is read, then updated and evicted before the fill writes it back
+		when(repository.findById(6)).thenAnswer(invocation -> {
+			cache.evict(6, "old@x.com");
+			return Optional.of(employee(6, "old@x.com"));
+		}).thenReturn(Optional.of(employee(6, "new@x.com")));
+
+		assertThat(cache.findById(6)).map(Employee::getEmail).contains("old@x.com");
+
+		assertThat(sharedTier.get(6)).isNull();
+		assertThat(cache.findById(6)).map(Employee::getEmail).contains("new@x.com");
+		verify(repository, times(2)).findById(6);
+	}
+
+	@Test
+	void callersGetCopies() {
+		when(repository.findById(4)).thenReturn(Optional.of(employee(4, "d@x.com")));
+
+		cache.findById(4).get().setName("changed");
+
+		assertThat(cache.findById(4)).map(Employee::getName).contains("emp4");
+	}
+
+	private static Employee employee(Integer id, String email) {
+		Employee emp = new Employee();
+		emp.setId(id);
+		emp.setName("emp" + id);
+		emp.setEmail(email);
+		emp.setPassword("pw");
+		return emp;
+	}
+}
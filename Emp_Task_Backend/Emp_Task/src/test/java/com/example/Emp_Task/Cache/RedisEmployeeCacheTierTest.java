@@ -0,0 +1,183 @@
+package com.example.Emp_Task.Cache;
+
+import com.example.Emp_Task.Entity.Employee;
+import com.example.Emp_Task.Repository.EmployeeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+// EmployeeCache over the Redis tier, with Redis replaced by an in-memory stub that
+// answers the commands the tier sends (GET, INCR, DEL and the conditional put script).
+class RedisEmployeeCacheTierTest {
+
+	private StubRedis redis;
+	private EmployeeRepository repository;
+
+	@BeforeEach
+	void setUp() {
+		redis = new StubRedis();
+		repository = mock(EmployeeRepository.class);
+	}
+
+	@Test
+	void fillOnOneNodeIsReadThroughOnAnother() {
+		when(repository.findById(1)).thenReturn(Optional.of(employee(1, "a@x.com")));
+		node().findById(1);
+
+		EmployeeCache other = node();
+		assertThat(other.findById(1)).map(Employee::getEmail).contains("a@x.com");
+		assertThat(other.findByEmail("a@x.com")).extracting(Employee::getId).isEqualTo(1);
+		verify(repository, times(1)).findById(1);
+		verify(repository, never()).findByEmail(anyString());
+	}
+
+	@Test
+	void evictRemovesSharedEntriesAndBumpsTheGeneration() {
+		when(repository.findById(2)).thenReturn(Optional.of(employee(2, "b@x.com")));
+		EmployeeCache cache = node();
+		cache.findById(2);
+		RedisEmployeeCacheTier tier = tier();
+		long before = tier.generation();
+
+		cache.evict(2, "b@x.com");
+
+		assertThat(tier.get(2)).isNull();
+		assertThat(tier.getIdByEmail("b@x.com")).isNull();
+		assertThat(tier.generation()).isGreaterThan(before);
+		// a fill that read the generation before the evict writes nothing
+		tier.put(employee(2, "b@x.com"), before);
+		assertThat(tier.get(2)).isNull();
+	}
+
+	@Test
+	void fillThatRacedAnEvictOnAnotherNodeIsNotWrittenBack() {
+		EmployeeCache writer = node();
+		when(repository.findById(3)).thenAnswer(invocation -> {
+			writer.evict(3, "old@x.com");
+			return Optional.of(employee(3, "old@x.com"));
+		});
+
+		node().findById(3);
+
+		assertThat(tier().get(3)).isNull();
+	}
+
+	@Test
+	void unreachableRedisFallsBackToTheDatabase() {
+		redis.down = true;
+		when(repository.findById(4)).thenReturn(Optional.of(employee(4, "d@x.com")));
+
+		assertThat(node().findById(4)).map(Employee::getEmail).contains("d@x.com");
+		assertThat(tier().generation()).isEqualTo(-1);
+	}
+
+	private EmployeeCache node() {
+		return new EmployeeCache(repository, tier(), new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+	}
+
+	private RedisEmployeeCacheTier tier() {
+		return new RedisEmployeeCacheTier(redis, Duration.ofMinutes(30));
+	}
+
+	private static Employee employee(Integer id, String email) {
+		Employee emp = new Employee();
+		emp.setId(id);
+		emp.setName("emp" + id);
+		emp.setEmail(email);
+		return emp;
+	}
+
+	// keys and values live unserialized in one map; INCR counters are Longs
+	private static class StubRedis extends RedisTemplate<Object, Object> {
+
+		final Map<Object, Object> data = new ConcurrentHashMap<>();
+		final RedisSerializer<Object> serializer = new JdkSerializationRedisSerializer();
+		volatile boolean down;
+
+		@SuppressWarnings("unchecked")
+		StubRedis() {
+			setKeySerializer(serializer);
+			setValueSerializer(serializer);
+			ValueOperations<Object, Object> ops = mock(ValueOperations.class);
+			when(ops.get(any())).thenAnswer(invocation -> {
+				checkUp();
+				return data.get(invocation.getArgument(0));
+			});
+			when(ops.increment(any())).thenAnswer(invocation -> {
+				checkUp();
+				return data.merge(invocation.getArgument(0), 1L, (a, b) -> (Long) a + (Long) b);
+			});
+			this.ops = ops;
+		}
+
+		private final ValueOperations<Object, Object> ops;
+
+		@Override
+		public ValueOperations<Object, Object> opsForValue() {
+			return ops;
+		}
+
+		@Override
+		public Boolean delete(Object key) {
+			checkUp();
+			return data.remove(key) != null;
+		}
+
+		// only GET of a raw key is sent this way
+		@Override
+		public <T> T execute(RedisCallback<T> action) {
+			checkUp();
+			RedisConnection connection = mock(RedisConnection.class);
+			RedisStringCommands strings = mock(RedisStringCommands.class);
+			when(connection.stringCommands()).thenReturn(strings);
+			when(strings.get(any(byte[].class))).thenAnswer(invocation -> {
+				Object value = data.get(serializer.deserialize(invocation.getArgument(0)));
+				return value == null ? null : value.toString().getBytes(StandardCharsets.UTF_8);
+			});
+			return action.doInRedis(connection);
+		}
+
+		// PUT_IF_GENERATION, with the arguments as the tier serializes them
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> T execute(RedisScript<T> script, RedisSerializer<?> argsSerializer, RedisSerializer<T> resultSerializer,
+							 List<Object> keys, Object... args) {
+			checkUp();
+			assertThat(script).isSameAs(RedisEmployeeCacheTier.PUT_IF_GENERATION);
+			String current = String.valueOf(data.getOrDefault(keys.get(0), 0L));
+			if (!current.equals(new String((byte[]) args[0], StandardCharsets.UTF_8))) {
+				return (T) Long.valueOf(0);
+			}
+			data.put(keys.get(1), serializer.deserialize((byte[]) args[1]));
+			if (keys.size() > 2) {
+				data.put(keys.get(2), serializer.deserialize((byte[]) args[2]));
+			}
+			return (T) Long.valueOf(1);
+		}
+
+		private void checkUp() {
+			if (down) {
+				throw new RedisConnectionFailureException("stub redis is down");
+			}
+		}
+	}
+}
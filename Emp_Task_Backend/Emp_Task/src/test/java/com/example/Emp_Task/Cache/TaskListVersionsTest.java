@@ -0,0 +1,66 @@
+package com.example.Emp_Task.Cache;
+
+import com.example.Emp_Task.Event.TaskChangeEvent;
+import com.example.Emp_Task.Event.TaskSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskListVersionsTest {
+
+	private TaskListVersions versions;
+	private AtomicInteger queries;
+
+	@BeforeEach
+	void setUp() {
+		versions = new TaskListVersions(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+		queries = new AtomicInteger();
+	}
+
+	@Test
+	void unchangedListIsAnsweredWithoutRunningTheQuery() {
+		ResponseEntity<List<String>> first = get(null);
+		String etag = first.getHeaders().getETag();
+
+		assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(etag).isNotNull();
+		assertThat(get(etag).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(queries).hasValue(1);
+	}
+
+	@Test
+	void committedChangeMovesTheVersion() {
+		String etag = get(null).getHeaders().getETag();
+
+		versions.onTaskChange(TaskChangeEvent.created(
+				new TaskSnapshot(10, 1, "t", "PENDING", null, null, null, 0L)));
+
+		ResponseEntity<List<String>> after = get(etag);
+		assertThat(after.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(after.getHeaders().getETag()).isNotEqualTo(etag);
+		assertThat(queries).hasValue(2);
+	}
+
+	private ResponseEntity<List<String>> get(String ifNoneMatch) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks/employee/1");
+		if (ifNoneMatch != null) {
+			request.addHeader("If-None-Match", ifNoneMatch);
+		}
+		ServletWebRequest webRequest = new ServletWebRequest(request, new MockHttpServletResponse());
+		return versions.conditional(webRequest, 1, () -> {
+			queries.incrementAndGet();
+			return List.of("task");
+		});
+	}
+}
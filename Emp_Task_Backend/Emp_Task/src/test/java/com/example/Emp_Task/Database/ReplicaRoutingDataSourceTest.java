@@ -0,0 +1,108 @@
+package com.example.Emp_Task.Database;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Two embedded databases stand in for the primary and a replica; each knows its own name.
+class ReplicaRoutingDataSourceTest {
+
+	private final DataSource primary = database("routing_primary");
+	private final DataSource replica = database("routing_replica");
+
+	@AfterEach
+	void clearSecurityContext() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void readOnlyTransactionsGoToTheReplica() {
+		Routing routing = routing(Map.of("replica-0", replica));
+
+		assertThat(routing.read()).isEqualTo("routing_replica");
+		assertThat(routing.write()).isEqualTo("routing_primary");
+		assertThat(routing.jdbc.queryForObject("select name from marker", String.class)).isEqualTo("routing_primary");
+		assertThat(ReplicaRouting.onPrimary(routing::read)).isEqualTo("routing_primary");
+	}
+
+	@Test
+	void unreachableReplicaFallsBackToThePrimary() {
+		DataSource missing = new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/routing_missing", "sa", "");
+		Routing routing = routing(Map.of("replica-0", missing));
+
+		assertThat(routing.read()).isEqualTo("routing_primary");
+		routing.dataSource.checkReplicas();
+		assertThat(routing.read()).isEqualTo("routing_primary");
+	}
+
+	@Test
+	void employeeReadsTheirOwnWritesFromThePrimary() {
+		Routing routing = routing(Map.of("replica-0", replica));
+		UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken("emp@test", null);
+		auth.setDetails(7);
+		SecurityContextHolder.getContext().setAuthentication(auth);
+
+		assertThat(routing.read()).isEqualTo("routing_replica");
+		routing.write();
+		assertThat(routing.read()).isEqualTo("routing_primary");
+
+		SecurityContextHolder.clearContext();
+		assertThat(routing.read()).isEqualTo("routing_replica");
+	}
+
+	private Routing routing(Map<String, DataSource> replicas) {
+		ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, new LinkedHashMap<>(replicas), Duration.ofMinutes(1));
+		dataSource.afterPropertiesSet();
+		return new Routing(dataSource);
+	}
+
+	private static DataSource database(String name) {
+		DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+		JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+		jdbc.execute("create table if not exists marker (name varchar(32))");
+		jdbc.update("delete from marker");
+		jdbc.update("insert into marker values (?)", name);
+		return dataSource;
+	}
+
+	private static final class Routing {
+		final ReplicaRoutingDataSource dataSource;
+		final JdbcTemplate jdbc;
+		final TransactionTemplate readOnly;
+		final TransactionTemplate readWrite;
+
+		Routing(ReplicaRoutingDataSource dataSource) {
+			this.dataSource = dataSource;
+			DataSource proxy = new LazyConnectionDataSourceProxy(dataSource);
+			DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(proxy);
+			this.jdbc = new JdbcTemplate(proxy);
+			this.readOnly = new TransactionTemplate(transactionManager);
+			this.readOnly.setReadOnly(true);
+			this.readWrite = new TransactionTemplate(transactionManager);
+		}
+
+		String read() {
+			return readOnly.execute(status -> jdbc.queryForObject("select name from marker", String.class));
+		}
+
+		String write() {
+			return readWrite.execute(status -> {
+				jdbc.update("update marker set name = name");
+				return jdbc.queryForObject("select name from marker", String.class);
+			});
+		}
+	}
+}
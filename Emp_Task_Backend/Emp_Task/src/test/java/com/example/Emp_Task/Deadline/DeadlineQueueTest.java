@@ -0,0 +1,40 @@
+package com.example.Emp_Task.Deadline;
+
+import com.example.Emp_Task.Event.TaskSnapshot;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeadlineQueueTest {
+
+	@Test
+	void firesInDeadlineOrderAndOnlyTheCurrentVersion() {
+		DeadlineQueue queue = new DeadlineQueue();
+		queue.schedule(task(1, 0L), 300);
+		queue.schedule(task(2, 0L), 100);
+		queue.schedule(task(3, 0L), 200);
+
+		queue.schedule(task(3, 1L), 500); // deadline moved out
+		queue.schedule(task(2, 0L), 100);
+		queue.cancel(1);
+
+		assertThat(queue.nextDueMillis()).isEqualTo(100);
+		assertThat(queue.pollDue(400)).extracting(TaskSnapshot::id).containsExactly(2);
+		assertThat(queue.pollDue(600)).extracting(TaskSnapshot::id).containsExactly(3);
+		assertThat(queue.size()).isZero();
+		assertThat(queue.nextDueMillis()).isEqualTo(Long.MAX_VALUE);
+	}
+
+	@Test
+	void olderVersionDoesNotReplaceNewer() {
+		DeadlineQueue queue = new DeadlineQueue();
+		queue.schedule(task(1, 2L), 500);
+
+		assertThat(queue.schedule(task(1, 1L), 100)).isFalse();
+		assertThat(queue.nextDueMillis()).isEqualTo(500);
+	}
+
+	private static TaskSnapshot task(Integer id, Long version) {
+		return new TaskSnapshot(id, 7, "task " + id, "PENDING", null, null, null, version);
+	}
+}
@@ -0,0 +1,56 @@
+package com.example.Emp_Task.Deadline;
+
+import com.example.Emp_Task.Event.TaskChangeBroadcast;
+import com.example.Emp_Task.Event.TaskChangeEvent;
+import com.example.Emp_Task.Event.TaskSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeadlineSchedulerTest {
+
+	private static final LocalDateTime PASSED = LocalDateTime.now().minusMinutes(5);
+
+	private final DeadlineScheduler scheduler = new DeadlineScheduler(null, null, new LocalDeadlineClaims(Duration.ofDays(1)),
+			event -> { }, new SimpleMeterRegistry(), Duration.ofHours(1));
+
+	@Test
+	void editKeepingAPassedDeadlineDoesNotScheduleItAgain() {
+		TaskSnapshot before = task("old text", PASSED, 0L);
+
+		scheduler.onBroadcast(update(before, task("new text", PASSED, 1L)));
+
+		assertThat(scheduler.scheduledCount()).isZero();
+	}
+
+	@Test
+	void movedOrFutureDeadlinesAreScheduled() {
+		scheduler.onBroadcast(update(task("a", PASSED, 0L), task("a", PASSED.minusMinutes(1), 1L)));
+		assertThat(scheduler.scheduledCount()).isOne();
+
+		TaskSnapshot future = task("b", LocalDateTime.now().plusDays(1), 2L);
+		scheduler.onBroadcast(update(future, future.withStatus("IN_PROGRESS", null, 3L)));
+		assertThat(scheduler.scheduledCount()).isOne();
+	}
+
+	@Test
+	void localClaimsFireEachDeadlineOnce() {
+		LocalDeadlineClaims claims = new LocalDeadlineClaims(Duration.ofDays(1));
+
+		assertThat(claims.claim(1, 1000L)).isTrue();
+		assertThat(claims.claim(1, 1000L)).isFalse();
+		assertThat(claims.claim(1, 2000L)).isTrue();
+	}
+
+	private static TaskChangeBroadcast update(TaskSnapshot before, TaskSnapshot after) {
+		return new TaskChangeBroadcast(TaskChangeEvent.updated(before, after));
+	}
+
+	private static TaskSnapshot task(String description, LocalDateTime end, long version) {
+		return new TaskSnapshot(1, 7, description, "PENDING", end.minusHours(1), end, null, version);
+	}
+}
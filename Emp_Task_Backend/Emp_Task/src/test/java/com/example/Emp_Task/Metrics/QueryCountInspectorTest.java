@@ -0,0 +1,28 @@
+package com.example.Emp_Task.Metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryCountInspectorTest {
+
+	private final QueryCountInspector inspector = new QueryCountInspector();
+
+	@Test
+	void countsStatementsBetweenBeginAndEnd() {
+		QueryCountInspector.begin();
+		assertThat(inspector.inspect("select 1")).isEqualTo("select 1");
+		inspector.inspect("select 2");
+
+		assertThat(QueryCountInspector.end()).isEqualTo(2);
+		assertThat(QueryCountInspector.end()).isZero();
+	}
+
+	@Test
+	void statementsOutsideARequestAreNotCounted() {
+		inspector.inspect("select 1");
+		QueryCountInspector.begin();
+
+		assertThat(QueryCountInspector.end()).isZero();
+	}
+}
@@ -0,0 +1,193 @@
+package com.example.Emp_Task.Notification;
+
+import com.example.Emp_Task.Entity.NotificationOutbox;
+import com.example.Emp_Task.Repository.NotificationOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Own database, so dispatchers of other cached test contexts can't claim these rows,
+// and a poll interval long enough that only the test drives dispatch().
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:notifications;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+		"notifications.poll-interval=PT1H",
+		"notifications.purge-interval=PT1H",
+		"notifications.rate-per-second=1000",
+		"notifications.max-attempts=3",
+		"notifications.base-backoff=PT30S",
+		"notifications.retention=P30D"
+})
+class NotificationDispatcherTest {
+
+	@TestConfiguration
+	static class StubSenderConfig {
+
+		@Bean
+		@Primary
+		StubSender stubSender() {
+			return new StubSender();
+		}
+	}
+
+	// records what would have been texted; fails every send while failing is set
+	static class StubSender implements NotificationSender {
+
+		final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+		volatile boolean failing;
+
+		@Override
+		public void send(String phone, String message) {
+			if (failing) {
+				throw new IllegalStateException("gateway down");
+			}
+			messages.add(phone + ": " + message);
+		}
+	}
+
+	@Autowired
+	private NotificationDispatcher dispatcher;
+
+	@Autowired
+	private NotificationOutboxRepository outboxRepository;
+
+	@Autowired
+	private StubSender sender;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	private Integer withPhone;
+	private Integer withoutPhone;
+
+	@BeforeEach
+	void seed() {
+		jdbc.update("INSERT INTO employees (name, email, password, phone) VALUES ('sms', 'sms@notify.test', 'x', '+15550001234')");
+		jdbc.update("INSERT INTO employees (name, email, password) VALUES ('nosms', 'nosms@notify.test', 'x')");
+		withPhone = jdbc.queryForObject("SELECT id FROM employees WHERE email = 'sms@notify.test'", Integer.class);
+		withoutPhone = jdbc.queryForObject("SELECT id FROM employees WHERE email = 'nosms@notify.test'", Integer.class);
+		sender.messages.clear();
+		sender.failing = false;
+	}
+
+	@AfterEach
+	void cleanUp() {
+		jdbc.update("DELETE FROM notification_outbox");
+		jdbc.update("DELETE FROM employees WHERE email LIKE '%@notify.test'");
+	}
+
+	@Test
+	void rowsOfOneEmployeeGoOutAsOneMessage() {
+		due(withPhone, NotificationOutboxWriter.TASK_ASSIGNED, "write report");
+		due(withPhone, NotificationOutboxWriter.TASK_ASSIGNED, "review plan");
+		due(withPhone, NotificationOutboxWriter.DEADLINE_PASSED, "file taxes");
+
+		dispatcher.dispatch();
+
+		assertThat(sender.messages).containsExactly(
+				"+15550001234: 2 new tasks: write report; review plan. Deadline passed: file taxes.");
+		assertThat(statuses()).containsOnly(NotificationOutbox.SENT);
+	}
+
+	@Test
+	void failedSendIsRetriedWithBackoffThenMarkedFailed() {
+		Long id = due(withPhone, NotificationOutboxWriter.TASK_ASSIGNED, "retry me");
+		sender.failing = true;
+
+		LocalDateTime before = LocalDateTime.now();
+		dispatcher.dispatch();
+
+		NotificationOutbox row = outboxRepository.findById(id).orElseThrow();
+		assertThat(row.getStatus()).isEqualTo(NotificationOutbox.PENDING);
+		assertThat(row.getAttempts()).isEqualTo(1);
+		assertThat(row.getLastError()).isEqualTo("gateway down");
+		// first backoff is the 30s base with up to half of it taken off as jitter
+		assertThat(row.getNextAttemptAt()).isBetween(before.plusSeconds(15), LocalDateTime.now().plusSeconds(30));
+
+		makeDue(id);
+		dispatcher.dispatch();
+		assertThat(outboxRepository.findById(id).orElseThrow().getAttempts()).isEqualTo(2);
+
+		makeDue(id);
+		dispatcher.dispatch();
+		row = outboxRepository.findById(id).orElseThrow();
+		assertThat(row.getStatus()).isEqualTo(NotificationOutbox.FAILED);
+		assertThat(row.getAttempts()).isEqualTo(3);
+		assertThat(sender.messages).isEmpty();
+	}
+
+	@Test
+	void employeeWithoutPhoneIsSkipped() {
+		Long id = due(withoutPhone, NotificationOutboxWriter.TASK_ASSIGNED, "nobody to text");
+
+		dispatcher.dispatch();
+
+		assertThat(outboxRepository.findById(id).orElseThrow().getStatus()).isEqualTo(NotificationOutbox.SKIPPED);
+		assertThat(sender.messages).isEmpty();
+	}
+
+	@Test
+	void sendingRowWhoseClaimRanOutIsPickedUpAgain() {
+		Long stale = due(withPhone, NotificationOutboxWriter.TASK_ASSIGNED, "node died mid-send");
+		Long live = due(withoutPhone, NotificationOutboxWriter.TASK_ASSIGNED, "still being sent");
+		jdbc.update("UPDATE notification_outbox SET status = 'SENDING', claimed_until = ? WHERE id = ?",
+				Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)), stale);
+		jdbc.update("UPDATE notification_outbox SET status = 'SENDING', claimed_until = ? WHERE id = ?",
+				Timestamp.valueOf(LocalDateTime.now().plusMinutes(5)), live);
+
+		dispatcher.dispatch();
+
+		assertThat(outboxRepository.findById(stale).orElseThrow().getStatus()).isEqualTo(NotificationOutbox.SENT);
+		assertThat(outboxRepository.findById(live).orElseThrow().getStatus()).isEqualTo(NotificationOutbox.SENDING);
+		assertThat(sender.messages).containsExactly("+15550001234: New task: node died mid-send.");
+	}
+
+	@Test
+	void purgeDeletesOnlyFinishedRowsPastRetention() {
+		LocalDateTime old = LocalDateTime.now().minusDays(31);
+		Long oldSent = row(withPhone, NotificationOutbox.SENT, old);
+		Long oldFailed = row(withPhone, NotificationOutbox.FAILED, old);
+		Long oldPending = row(withPhone, NotificationOutbox.PENDING, old);
+		Long recentSent = row(withPhone, NotificationOutbox.SENT, LocalDateTime.now().minusDays(1));
+
+		dispatcher.purgeFinished();
+
+		assertThat(outboxRepository.existsById(oldSent)).isFalse();
+		assertThat(outboxRepository.existsById(oldFailed)).isFalse();
+		assertThat(outboxRepository.existsById(oldPending)).isTrue();
+		assertThat(outboxRepository.existsById(recentSent)).isTrue();
+	}
+
+	private Long due(Integer empId, String kind, String detail) {
+		return outboxRepository.save(new NotificationOutbox(empId, kind, null, detail, LocalDateTime.now().minusSeconds(1)))
+				.getId();
+	}
+
+	private Long row(Integer empId, String status, LocalDateTime nextAttemptAt) {
+		NotificationOutbox row = new NotificationOutbox(empId, NotificationOutboxWriter.TASK_ASSIGNED, null, "history", nextAttemptAt);
+		row.setStatus(status);
+		return outboxRepository.save(row).getId();
+	}
+
+	private void makeDue(Long id) {
+		jdbc.update("UPDATE notification_outbox SET next_attempt_at = ? WHERE id = ?",
+				Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)), id);
+	}
+
+	private List<String> statuses() {
+		return jdbc.queryForList("SELECT status FROM notification_outbox", String.class);
+	}
+}
@@ -0,0 +1,113 @@
+package com.example.Emp_Task.Pool;
+
+import com.example.Emp_Task.Dto.PoolClaim;
+import com.example.Emp_Task.Dto.TaskStatusChange;
+import com.example.Emp_Task.Entity.Task;
+import com.example.Emp_Task.Service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class TaskPoolServiceTest {
+
+	private static final int CLAIMERS = 8;
+
+	@Autowired
+	private TaskPoolService pool;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	private final List<Integer> empIds = new ArrayList<>();
+
+	@BeforeEach
+	void seed() {
+		for (int i = 0; i < CLAIMERS; i++) {
+			jdbc.update("INSERT INTO employees (name, email, password) VALUES (?, ?, 'x')", "pool" + i, "pool" + i + "@pool.test");
+		}
+		empIds.addAll(jdbc.queryForList("SELECT id FROM employees WHERE email LIKE '%@pool.test'", Integer.class));
+	}
+
+	@AfterEach
+	void cleanUp() {
+		jdbc.update("DELETE FROM task_pool");
+		jdbc.update("DELETE FROM tasks WHERE employee_id IN (SELECT id FROM employees WHERE email LIKE '%@pool.test')");
+		jdbc.update("DELETE FROM employees WHERE email LIKE '%@pool.test'");
+	}
+
+	@Test
+	void concurrentClaimersGetEveryTaskExactlyOnce() throws Exception {
+		for (int i = 0; i < 100; i++) {
+			pool.add(new Task("pooled " + i, null, LocalDateTime.now(), null, null));
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(CLAIMERS);
+		List<Callable<List<PoolClaim>>> claimers = new ArrayList<>();
+		for (Integer empId : empIds) {
+			claimers.add(() -> {
+				List<PoolClaim> mine = new ArrayList<>();
+				List<PoolClaim> batch;
+				while (!(batch = pool.claim(empId, 5)).isEmpty()) {
+					mine.addAll(batch);
+				}
+				return mine;
+			});
+		}
+		List<PoolClaim> all = new ArrayList<>();
+		for (Future<List<PoolClaim>> result : executor.invokeAll(claimers)) {
+			all.addAll(result.get());
+		}
+		executor.shutdown();
+
+		assertThat(all).hasSize(100);
+		assertThat(all).extracting(PoolClaim::poolId).doesNotHaveDuplicates();
+		assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM task_pool WHERE status = 'CLAIMED'", Integer.class)).isEqualTo(100);
+		assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM tasks WHERE description LIKE 'pooled %'", Integer.class)).isEqualTo(100);
+	}
+
+	@Test
+	void expiredLeaseRequeuesOpenTaskAndKeepsCompletedOne() {
+		pool.add(new Task("pooled open", null, LocalDateTime.now(), null, null));
+		pool.add(new Task("pooled done", null, LocalDateTime.now(), null, null));
+		List<PoolClaim> claims = pool.claim(empIds.get(0), 2);
+		PoolClaim done = claims.get(1);
+		taskService.changeStatus(done.task().id(), new TaskStatusChange(done.task().id(), TaskService.COMPLETED, done.task().version()));
+		// completing settles the lease right away
+		assertThat(jdbc.queryForList("SELECT status FROM task_pool ORDER BY id", String.class)).containsExactly("CLAIMED", "DONE");
+
+		jdbc.update("UPDATE task_pool SET lease_expires_at = ?", LocalDateTime.now().minusMinutes(1));
+		pool.requeueExpired();
+
+		assertThat(jdbc.queryForList("SELECT status FROM task_pool ORDER BY id", String.class)).containsExactly("OPEN", "DONE");
+		assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM tasks WHERE id = ?", Integer.class, claims.get(0).task().id())).isZero();
+		assertThat(pool.claim(empIds.get(1), 5)).extracting(PoolClaim::poolId).containsExactly(claims.get(0).poolId());
+	}
+
+	@Test
+	void onlyTheClaimerRenewsTheLease() {
+		pool.add(new Task("pooled renew", null, LocalDateTime.now(), null, null));
+		Integer taskId = pool.claim(empIds.get(0), 1).get(0).task().id();
+
+		assertThatThrownBy(() -> pool.renew(taskId, empIds.get(1))).isInstanceOf(ResponseStatusException.class);
+		assertThat(pool.renew(taskId, empIds.get(0))).isAfter(LocalDateTime.now());
+	}
+}
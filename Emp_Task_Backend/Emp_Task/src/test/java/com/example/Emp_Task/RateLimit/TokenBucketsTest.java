@@ -0,0 +1,41 @@
+package com.example.Emp_Task.RateLimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TokenBucketsTest {
+
+	private final AtomicLong clock = new AtomicLong();
+	private final TokenBuckets buckets = new TokenBuckets(3, Duration.ofSeconds(3), 100, clock::get);
+
+	@Test
+	void allowsTheBurstThenReportsTheWaitForTheNextToken() {
+		assertThat(buckets.tryTake(1)).isZero();
+		assertThat(buckets.tryTake(1)).isZero();
+		assertThat(buckets.tryTake(1)).isZero();
+
+		assertThat(buckets.tryTake(1)).isCloseTo(TimeUnit.SECONDS.toNanos(1), within(10L));
+
+		clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(400));
+		assertThat(buckets.tryTake(1)).isCloseTo(TimeUnit.MILLISECONDS.toNanos(600), within(10L));
+
+		clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(601));
+		assertThat(buckets.tryTake(1)).isZero();
+	}
+
+	@Test
+	void employeesHaveTheirOwnBuckets() {
+		for (int i = 0; i < 3; i++) {
+			buckets.tryTake(1);
+		}
+
+		assertThat(buckets.tryTake(1)).isPositive();
+		assertThat(buckets.tryTake(2)).isZero();
+	}
+}
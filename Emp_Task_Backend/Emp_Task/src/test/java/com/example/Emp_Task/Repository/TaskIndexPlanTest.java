@@ -0,0 +1,121 @@
+package com.example.Emp_Task.Repository;
+
+import com.example.Emp_Task.Metrics.QueryCountInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Checks that the SQL Hibernate generates for TaskRepository's finders is planned on the
+// composite indexes from V2__task_indexes.sql instead of a table scan. The statements are
+// recorded by the statement inspector as the finders run and EXPLAINed with the same
+// arguments. Own database, since a different inspector means a separate context.
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:plans;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector="
+				+ "com.example.Emp_Task.Repository.TaskIndexPlanTest$RecordingInspector"
+})
+class TaskIndexPlanTest {
+
+	private static final LocalDateTime DAY = LocalDateTime.of(2025, 1, 2, 0, 0);
+
+	// QueryCountInspector as configured in production, plus the last statement this thread
+	// prepared, so scheduled jobs of the same context can't slip theirs in between
+	public static class RecordingInspector extends QueryCountInspector {
+
+		static final ThreadLocal<String> LAST = new ThreadLocal<>();
+
+		@Override
+		public String inspect(String sql) {
+			LAST.set(sql);
+			return super.inspect(sql);
+		}
+	}
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	private int empId;
+
+	@BeforeEach
+	void seed() {
+		LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+		for (int e = 1; e <= 10; e++) {
+			jdbc.update("INSERT INTO employees (name, email, password) VALUES (?, ?, ?)",
+					"emp" + e, "emp" + e + "@plan.test", "x");
+		}
+		List<Integer> empIds = jdbc.queryForList("SELECT id FROM employees WHERE email LIKE '%@plan.test'", Integer.class);
+		empId = empIds.get(0);
+
+		// explicit ids far above anything the task id generator hands out to other tests
+		List<Object[]> rows = new ArrayList<>();
+		for (int i = 0; i < 2000; i++) {
+			LocalDateTime start = base.plusHours(i);
+			rows.add(new Object[]{
+					1_000_000 + i,
+					"task " + i,
+					i % 3 == 0 ? "COMPLETED" : "PENDING",
+					Timestamp.valueOf(start),
+					Timestamp.valueOf(start.plusHours(4)),
+					empIds.get(i % empIds.size())
+			});
+		}
+		jdbc.batchUpdate("INSERT INTO tasks (id, description, status, start_date_time, end_date_time, employee_id) "
+				+ "VALUES (?, ?, ?, ?, ?, ?)", rows);
+		jdbc.execute("ANALYZE");
+	}
+
+	@AfterEach
+	void cleanUp() {
+		jdbc.update("DELETE FROM tasks WHERE employee_id IN (SELECT id FROM employees WHERE email LIKE '%@plan.test')");
+		jdbc.update("DELETE FROM employees WHERE email LIKE '%@plan.test'");
+	}
+
+	@Test
+	void startDateRangeUsesEmployeeStartIndex() {
+		LocalDateTime end = DAY.plusDays(1).minusSeconds(1);
+		taskRepository.findViewsByEmployeeIdAndStartDateTimeBetween(empId, DAY, end);
+		assertThat(plan(empId, DAY, end)).containsIgnoringCase("idx_tasks_employee_start");
+	}
+
+	@Test
+	void statusPageUsesEmployeeStatusIndex() {
+		taskRepository.findViewsByEmployeeIdAndStatus(empId, "PENDING");
+		assertThat(plan(empId, "PENDING")).containsIgnoringCase("idx_tasks_employee_status");
+	}
+
+	@Test
+	void keysetPageUsesEmployeeIdIndex() {
+		taskRepository.findViewPageAsc(empId, 1_000_100, Limit.of(20));
+		assertThat(plan(empId, 1_000_100, 20)).containsIgnoringCase("idx_tasks_employee_id");
+	}
+
+	@Test
+	void statusKeysetPageUsesEmployeeStatusIndex() {
+		taskRepository.findViewPageByStatusAsc(empId, "PENDING", 1_000_100, Limit.of(20));
+		// MySQL appends the primary key to (employee_id, status); H2 doesn't and may take (employee_id, id)
+		assertThat(plan(empId, "PENDING", 1_000_100, 20))
+				.containsIgnoringCase("idx_tasks_employee_")
+				.doesNotContainIgnoringCase("tableScan");
+	}
+
+	// EXPLAIN of the statement the last finder call prepared, bound to that call's arguments
+	private String plan(Object... args) {
+		String sql = RecordingInspector.LAST.get();
+		assertThat(sql).as("no statement recorded").isNotNull();
+		return String.join("\n", jdbc.queryForList("EXPLAIN " + sql, String.class, args));
+	}
+}
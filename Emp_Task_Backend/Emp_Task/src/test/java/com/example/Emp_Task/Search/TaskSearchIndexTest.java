@@ -0,0 +1,70 @@
+package com.example.Emp_Task.Search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskSearchIndexTest {
+
+	private TaskSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new TaskSearchIndex();
+		index.put(1, 10, "PENDING", 0L, "Prepare quarterly report for finance");
+		index.put(2, 10, "COMPLETED", 0L, "Quarterly report review, report sign-off");
+		index.put(3, 20, "PENDING", 0L, "Fix login page styling");
+	}
+
+	@Test
+	void ranksByRelevanceAndFilters() {
+		assertThat(ids(index.search("report", null, null, 10))).containsExactly(2, 1);
+		assertThat(ids(index.search("report", 10, "pending", 10))).containsExactly(1);
+		assertThat(ids(index.search("report", 20, null, 10))).isEmpty();
+		assertThat(ids(index.search("the", null, null, 10))).isEmpty();
+	}
+
+	@Test
+	void updatesReplaceOldTermsAndStaleVersionsAreIgnored() {
+		index.put(3, 20, "PENDING", 2L, "Fix signup page");
+		index.put(3, 20, "PENDING", 1L, "Fix login page");
+
+		assertThat(ids(index.search("login", null, null, 10))).isEmpty();
+		assertThat(ids(index.search("signup", null, null, 10))).containsExactly(3);
+	}
+
+	@Test
+	void rebuildDropsWhatItDidNotSeeAndKeepsDeletesMadeDuringIt() {
+		index.startRebuild();
+		index.remove(2);
+		index.putAll(List.of(
+				new TaskSearchIndex.Row(1, 10, "PENDING", 0L, "Prepare quarterly report for finance"),
+				new TaskSearchIndex.Row(2, 10, "COMPLETED", 0L, "Quarterly report review")));
+		int dropped = index.finishRebuild();
+
+		assertThat(dropped).isEqualTo(1);
+		assertThat(index.size()).isEqualTo(1);
+		assertThat(ids(index.search("quarterly", null, null, 10))).containsExactly(1);
+	}
+
+	@Test
+	void rebuildKeepsDocsItReadAnOlderVersionOf() {
+		index.put(1, 10, "PENDING", 3L, "Prepare quarterly report for finance");
+		index.startRebuild();
+		index.putAll(List.of(
+				new TaskSearchIndex.Row(1, 10, "PENDING", 2L, "Prepare report"),
+				new TaskSearchIndex.Row(2, 10, "COMPLETED", 0L, "Quarterly report review"),
+				new TaskSearchIndex.Row(3, 20, "PENDING", 0L, "Fix login page styling")));
+		int dropped = index.finishRebuild();
+
+		assertThat(dropped).isZero();
+		assertThat(ids(index.search("finance", null, null, 10))).containsExactly(1);
+	}
+
+	private static List<Integer> ids(List<TaskSearchIndex.Hit> hits) {
+		return hits.stream().map(TaskSearchIndex.Hit::taskId).toList();
+	}
+}
@@ -0,0 +1,30 @@
+package com.example.Emp_Task.Security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHashingConfigTest {
+
+	@Test
+	void legacyPlaintextRowsMatchAndAskForUpgrade() {
+		PasswordEncoder encoder = PasswordHashingConfig.delegatingEncoder(4);
+
+		assertThat(encoder.matches("secret", "secret")).isTrue();
+		assertThat(encoder.matches("Secret", "secret")).isFalse();
+		assertThat(encoder.upgradeEncoding("secret")).isTrue();
+	}
+
+	@Test
+	void hashesCarryTheirCostAndAreUpgradedWhenItIsRaised() {
+		String hash = PasswordHashingConfig.delegatingEncoder(4).encode("secret");
+
+		assertThat(hash).startsWith("{bcrypt}$2a$04$");
+		assertThat(PasswordHashingConfig.delegatingEncoder(4).upgradeEncoding(hash)).isFalse();
+
+		PasswordEncoder stronger = PasswordHashingConfig.delegatingEncoder(5);
+		assertThat(stronger.matches("secret", hash)).isTrue();
+		assertThat(stronger.upgradeEncoding(hash)).isTrue();
+	}
+}
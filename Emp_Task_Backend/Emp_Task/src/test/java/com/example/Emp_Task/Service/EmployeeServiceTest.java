@@ -0,0 +1,79 @@
+package com.example.Emp_Task.Service;
+
+import com.example.Emp_Task.Entity.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class EmployeeServiceTest {
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	private Integer empId;
+
+	@BeforeEach
+	void seed() {
+		jdbc.update("INSERT INTO employees (name, email, password) VALUES ('del', 'del@employee.test', 'x')");
+		empId = jdbc.queryForObject("SELECT id FROM employees WHERE email = 'del@employee.test'", Integer.class);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		jdbc.update("DELETE FROM tasks_archive WHERE employee_id = ?", empId);
+		jdbc.update("DELETE FROM tasks WHERE employee_id = ?", empId);
+		jdbc.update("DELETE FROM employees WHERE id = ?", empId);
+	}
+
+	@Test
+	void employeeWithoutTasksIsDeleted() {
+		employeeService.deleteEmployee(empId);
+
+		assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM employees WHERE id = ?", Integer.class, empId)).isZero();
+	}
+
+	@Test
+	void openTaskBlocksTheDelete() {
+		Task task = new Task();
+		task.setDescription("still open");
+		taskService.addTask(empId, task);
+
+		assertConflict();
+	}
+
+	@Test
+	void archivedTaskBlocksTheDelete() {
+		LocalDateTime old = LocalDateTime.now().minusYears(2);
+		jdbc.update("INSERT INTO tasks_archive (id, description, status, start_date_time, end_date_time, completed_at, version, employee_id, archived_at) "
+						+ "VALUES (?, 'archived', 'COMPLETED', ?, ?, ?, 0, ?, ?)",
+				3_000_001, Timestamp.valueOf(old), Timestamp.valueOf(old.plusHours(1)), Timestamp.valueOf(old.plusHours(1)), empId,
+				Timestamp.valueOf(LocalDateTime.now()));
+
+		assertConflict();
+	}
+
+	private void assertConflict() {
+		assertThatThrownBy(() -> employeeService.deleteEmployee(empId))
+				.isInstanceOfSatisfying(ResponseStatusException.class,
+						e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+		assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM employees WHERE id = ?", Integer.class, empId)).isOne();
+	}
+}
@@ -0,0 +1,94 @@
+package com.example.Emp_Task.Service;
+
+import com.example.Emp_Task.Dto.TaskCalendar;
+import com.example.Emp_Task.Dto.TaskView;
+import com.example.Emp_Task.Repository.ArchivedTaskRepository;
+import com.example.Emp_Task.Repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskCalendarServiceTest {
+
+	private static final LocalDate FROM = LocalDate.of(2025, 3, 3); // a Monday
+	private static final LocalDate TO = LocalDate.of(2025, 3, 16);
+
+	private TaskRepository repository;
+	private ArchivedTaskRepository archive;
+	private TaskCalendarService service;
+
+	@BeforeEach
+	void setUp() {
+		repository = mock(TaskRepository.class);
+		archive = mock(ArchivedTaskRepository.class);
+		service = new TaskCalendarService(repository, archive);
+		ReflectionTestUtils.setField(service, "maxDays", 1100L);
+		ReflectionTestUtils.setField(service, "maxEmployees", 100);
+	}
+
+	@Test
+	void multiDayTaskIsSentOnceAndReferencedFromEveryDayItOverlaps() {
+		// starts before the window, ends at midnight of 5 March
+		TaskView spanning = task(1, LocalDateTime.of(2025, 3, 1, 9, 0), LocalDateTime.of(2025, 3, 5, 0, 0));
+		TaskView point = task(2, LocalDateTime.of(2025, 3, 10, 14, 0), null);
+		when(repository.findViewsOverlapping(any(), any(), any())).thenReturn(List.of(spanning));
+		when(repository.findOpenEndedViewsStartingBetween(any(), any(), any())).thenReturn(List.of(point));
+
+		TaskCalendar calendar = service.getCalendar(List.of(7), FROM, TO, TaskCalendarService.Bucket.DAY);
+
+		assertThat(calendar.tasks()).containsExactly(spanning, point);
+		assertThat(calendar.buckets()).hasSize(14);
+		assertThat(calendar.buckets().get(0).taskIds()).containsExactly(1);
+		assertThat(calendar.buckets().get(1).taskIds()).containsExactly(1);
+		assertThat(calendar.buckets().get(2).taskIds()).isEmpty();
+		assertThat(calendar.buckets().get(7).taskIds()).containsExactly(2);
+	}
+
+	@Test
+	void weekBucketsStartOnMonday() {
+		TaskView task = task(3, LocalDateTime.of(2025, 3, 7, 9, 0), LocalDateTime.of(2025, 3, 11, 9, 0));
+		when(repository.findViewsOverlapping(any(), any(), any())).thenReturn(List.of(task));
+		when(repository.findOpenEndedViewsStartingBetween(any(), any(), any())).thenReturn(List.of());
+
+		TaskCalendar calendar = service.getCalendar(List.of(7), FROM, TO, TaskCalendarService.Bucket.WEEK);
+
+		assertThat(calendar.buckets()).extracting(TaskCalendar.Bucket::start)
+				.containsExactly(FROM, FROM.plusWeeks(1));
+		assertThat(calendar.tasks()).containsExactly(task);
+		assertThat(calendar.buckets()).allSatisfy(bucket -> assertThat(bucket.taskIds()).containsExactly(3));
+	}
+
+	@Test
+	void archivedTasksAreMergedInStartOrder() {
+		TaskView live = task(4, LocalDateTime.of(2025, 3, 4, 12, 0), LocalDateTime.of(2025, 3, 4, 13, 0));
+		TaskView archived = task(5, LocalDateTime.of(2025, 3, 4, 8, 0), LocalDateTime.of(2025, 3, 4, 9, 0));
+		when(repository.findViewsOverlapping(any(), any(), any())).thenReturn(List.of(live));
+		when(archive.findViewsOverlapping(any(), any(), any())).thenReturn(List.of(archived));
+
+		TaskCalendar calendar = service.getCalendar(List.of(7), FROM, TO, TaskCalendarService.Bucket.DAY);
+
+		assertThat(calendar.tasks()).containsExactly(archived, live);
+		assertThat(calendar.buckets().get(1).taskIds()).containsExactly(5, 4);
+	}
+
+	@Test
+	void rejectsReversedWindow() {
+		assertThatThrownBy(() -> service.getCalendar(List.of(7), TO, FROM, TaskCalendarService.Bucket.DAY))
+				.isInstanceOf(ResponseStatusException.class);
+	}
+
+	private static TaskView task(Integer id, LocalDateTime start, LocalDateTime end) {
+		return new TaskView(id, "task " + id, "PENDING", start, end, null, 0L, 7);
+	}
+}
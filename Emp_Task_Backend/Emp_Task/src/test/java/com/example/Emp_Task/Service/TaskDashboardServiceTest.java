@@ -0,0 +1,69 @@
+package com.example.Emp_Task.Service;
+
+import com.example.Emp_Task.Dto.TaskDashboard;
+import com.example.Emp_Task.Dto.TaskView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class TaskDashboardServiceTest {
+
+	@Autowired
+	private TaskDashboardService dashboardService;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	private Integer empId;
+
+	@BeforeEach
+	void seed() {
+		jdbc.update("INSERT INTO employees (name, email, password) VALUES ('Dash', 'dash@dashboard.test', 'x')");
+		empId = jdbc.queryForObject("SELECT id FROM employees WHERE email = 'dash@dashboard.test'", Integer.class);
+		Timestamp start = Timestamp.valueOf(LocalDateTime.of(2025, 6, 1, 9, 0));
+		for (int i = 0; i < 8; i++) {
+			jdbc.update("INSERT INTO tasks (id, description, status, start_date_time, employee_id) VALUES (?, ?, ?, ?, ?)",
+					3_000_000 + i, "task " + i, i < 5 ? "PENDING" : "COMPLETED", start, empId);
+		}
+		jdbc.update("INSERT INTO tasks_archive (id, description, status, start_date_time, version, employee_id, archived_at) "
+				+ "VALUES (2999999, 'old', 'COMPLETED', ?, 0, ?, ?)", start, empId, start);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		jdbc.update("DELETE FROM tasks_archive WHERE employee_id = ?", empId);
+		jdbc.update("DELETE FROM tasks WHERE employee_id = ?", empId);
+		jdbc.update("DELETE FROM employees WHERE id = ?", empId);
+	}
+
+	@Test
+	void returnsProfileCountsAndFirstPageOfEachStatus() {
+		TaskDashboard dashboard = dashboardService.getDashboard(empId, 2);
+
+		assertThat(dashboard.profile().name()).isEqualTo("Dash");
+		assertThat(dashboard.counts().countsByStatus()).containsEntry("PENDING", 5L).containsEntry("COMPLETED", 4L);
+		assertThat(dashboard.tasks().get("PENDING").items()).extracting(TaskView::id)
+				.containsExactly(3_000_000, 3_000_001);
+		assertThat(dashboard.tasks().get("PENDING").nextCursor()).isEqualTo(3_000_001);
+		// the archived task has the lowest id, so it leads the COMPLETED slice
+		assertThat(dashboard.tasks().get("COMPLETED").items()).extracting(TaskView::id)
+				.containsExactly(2_999_999, 3_000_005);
+	}
+
+	@Test
+	void unknownEmployeeIsNotFound() {
+		assertThatThrownBy(() -> dashboardService.getDashboard(-1, null))
+				.isInstanceOf(ResponseStatusException.class);
+	}
+}
@@ -0,0 +1,100 @@
+package com.example.Emp_Task.Service;
+
+import com.example.Emp_Task.Dto.BulkItemResult;
+import com.example.Emp_Task.Entity.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class TaskServiceBulkTest {
+
+	private static final LocalDateTime START = LocalDateTime.of(2025, 6, 2, 9, 0);
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	private Integer empId;
+
+	@BeforeEach
+	void seed() {
+		jdbc.update("INSERT INTO employees (name, email, password) VALUES ('bulk', 'bulk@bulk.test', 'x')");
+		empId = jdbc.queryForObject("SELECT id FROM employees WHERE email = 'bulk@bulk.test'", Integer.class);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		jdbc.update("DELETE FROM tasks WHERE employee_id = ?", empId);
+		jdbc.update("DELETE FROM employees WHERE id = ?", empId);
+	}
+
+	@Test
+	void addKeepsValidItemsAndReportsInvalidOnes() {
+		List<BulkItemResult> results = taskService.addTasks(empId, Arrays.asList(
+				task("fine", START, START.plusHours(1)),
+				null,
+				task("ends early", START, START.minusHours(1)),
+				task("x".repeat(256), START, null),
+				task("also fine", START, null)));
+
+		assertThat(results).extracting(BulkItemResult::success).containsExactly(true, false, false, false, true);
+		assertThat(results.get(1).error()).isEqualTo("Task body missing");
+		assertThat(results.get(2).error()).isEqualTo("endDateTime is before startDateTime");
+		assertThat(results.get(3).error()).contains("longer than 255");
+		assertThat(jdbc.queryForList("SELECT description FROM tasks WHERE employee_id = ? ORDER BY id", String.class, empId))
+				.containsExactly("fine", "also fine");
+	}
+
+	@Test
+	void updateKeepsValidItemsAndLeavesInvalidOnesUntouched() {
+		Integer first = taskService.addTask(empId, task("first", START, START.plusHours(1))).getId();
+		Integer second = taskService.addTask(empId, task("second", START, START.plusHours(1))).getId();
+
+		Task ok = update(first, "first edited", null, START.plusHours(2));
+		// no start in the update means the stored one, which this end is before
+		Task endsEarly = update(second, "second edited", null, START.minusHours(1));
+		Task unknown = update(999_999_999, "nobody", null, null);
+		Task noStatus = update(second, "no status", null, null);
+		noStatus.setStatus(null);
+
+		List<BulkItemResult> results = taskService.updateTasks(Arrays.asList(ok, endsEarly, unknown, noStatus, null));
+
+		assertThat(results).extracting(BulkItemResult::success).containsExactly(true, false, false, false, false);
+		assertThat(results).extracting(BulkItemResult::error).containsExactly(null,
+				"endDateTime is before startDateTime", "Task Not Found", "Status missing", "Task id missing");
+		assertThat(jdbc.queryForList("SELECT description FROM tasks WHERE employee_id = ? ORDER BY id", String.class, empId))
+				.containsExactly("first edited", "second");
+	}
+
+	@Test
+	void unknownEmployeeIsNotFound() {
+		assertThatThrownBy(() -> taskService.addTasks(999_999_999, List.of(task("orphan", START, null))))
+				.isInstanceOfSatisfying(ResponseStatusException.class,
+						e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+	}
+
+	private static Task task(String description, LocalDateTime start, LocalDateTime end) {
+		return new Task(description, null, start, end, null);
+	}
+
+	private static Task update(Integer id, String description, LocalDateTime start, LocalDateTime end) {
+		Task task = new Task(description, "PENDING", start, end, null);
+		task.setId(id);
+		return task;
+	}
+}
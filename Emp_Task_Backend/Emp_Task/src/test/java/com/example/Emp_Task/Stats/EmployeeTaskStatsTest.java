@@ -0,0 +1,63 @@
+package com.example.Emp_Task.Stats;
+
+import com.example.Emp_Task.Dto.TaskStats;
+import com.example.Emp_Task.Event.TaskSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeTaskStatsTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 10, 12, 0);
+
+	@Test
+	void tracksCountsOverdueAndCompletions() {
+		EmployeeTaskStats stats = new EmployeeTaskStats();
+		TaskSnapshot late = task(1, "PENDING", NOW.minusHours(1), null);
+		TaskSnapshot onTime = task(2, "PENDING", NOW.plusDays(1), null);
+		TaskSnapshot done = task(3, "COMPLETED", NOW.minusDays(2), NOW.minusHours(3));
+		stats.add(late);
+		stats.add(onTime);
+		stats.add(done);
+
+		TaskStats result = stats.toStats(7, NOW, NOW.toLocalDate().minusDays(6));
+
+		assertThat(result.total()).isEqualTo(3);
+		assertThat(result.countsByStatus()).containsEntry("PENDING", 2L).containsEntry("COMPLETED", 1L);
+		assertThat(result.overdue()).isEqualTo(1);
+		assertThat(result.completedPerDay()).containsEntry(NOW.toLocalDate(), 1L);
+	}
+
+	@Test
+	void statusTransitionMovesTaskBetweenBuckets() {
+		EmployeeTaskStats stats = new EmployeeTaskStats();
+		TaskSnapshot pending = task(1, "PENDING", NOW.minusHours(1), null);
+		stats.add(pending);
+
+		TaskSnapshot completed = pending.withStatus("COMPLETED", NOW, 1L);
+		stats.remove(pending);
+		stats.add(completed);
+
+		TaskStats result = stats.toStats(7, NOW, NOW.toLocalDate());
+		assertThat(result.countsByStatus()).doesNotContainKey("PENDING").containsEntry("COMPLETED", 1L);
+		assertThat(result.overdue()).isZero();
+		assertThat(result.completedPerDay()).containsEntry(NOW.toLocalDate(), 1L);
+	}
+
+	@Test
+	void completionsOutsideTheWindowAreNotReported() {
+		EmployeeTaskStats stats = new EmployeeTaskStats();
+		stats.add(task(1, "COMPLETED", null, NOW.minusDays(40)));
+
+		TaskStats result = stats.toStats(7, NOW, LocalDate.of(2025, 3, 1));
+		assertThat(result.completedPerDay()).isEmpty();
+		assertThat(result.total()).isEqualTo(1);
+	}
+
+	private static TaskSnapshot task(int id, String status, LocalDateTime end, LocalDateTime completedAt) {
+		return new TaskSnapshot(id, 7, "task " + id, status, null, end, completedAt, 0L);
+	}
+}
@@ -0,0 +1,73 @@
+package com.example.Emp_Task.Stats;
+
+import com.example.Emp_Task.Event.TaskChangeBroadcast;
+import com.example.Emp_Task.Event.TaskChangeEvent;
+import com.example.Emp_Task.Event.TaskSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskStatsReconcilerTest {
+
+	private static final int EMPLOYEE = 7;
+
+	@Test
+	void rebuildReplacesAnUnchangedAggregate() {
+		StubStatsService stats = new StubStatsService();
+		stats.getStats(EMPLOYEE);
+		stats.nextLoad = aggregateOf(task(1, "PENDING"), task(2, "PENDING"));
+		TaskStatsReconciler reconciler = new TaskStatsReconciler(stats, new SimpleMeterRegistry());
+
+		assertThat(reconciler.reconcile(EMPLOYEE)).isTrue();
+		assertThat(stats.getStats(EMPLOYEE).total()).isEqualTo(2);
+	}
+
+	@Test
+	void deltaAppliedDuringTheLoadKeepsTheLiveAggregate() {
+		StubStatsService stats = new StubStatsService();
+		stats.getStats(EMPLOYEE);
+		TaskSnapshot created = task(1, "PENDING");
+		// the rebuild read the table before the task was committed, its event lands meanwhile
+		stats.nextLoad = new EmployeeTaskStats();
+		stats.duringLoad = () -> stats.onBroadcast(new TaskChangeBroadcast(TaskChangeEvent.created(created)));
+		TaskStatsReconciler reconciler = new TaskStatsReconciler(stats, new SimpleMeterRegistry());
+
+		assertThat(reconciler.reconcile(EMPLOYEE)).isFalse();
+		assertThat(stats.getStats(EMPLOYEE).total()).isEqualTo(1);
+	}
+
+	private static EmployeeTaskStats aggregateOf(TaskSnapshot... tasks) {
+		EmployeeTaskStats stats = new EmployeeTaskStats();
+		for (TaskSnapshot task : tasks) {
+			stats.add(task);
+		}
+		return stats;
+	}
+
+	private static TaskSnapshot task(int id, String status) {
+		return new TaskSnapshot(id, EMPLOYEE, "task " + id, status, null, LocalDateTime.now().plusDays(1), null, 0L);
+	}
+
+	// loads come from the test instead of the database
+	private static class StubStatsService extends TaskStatsService {
+
+		EmployeeTaskStats nextLoad = new EmployeeTaskStats();
+		Runnable duringLoad = () -> { };
+
+		StubStatsService() {
+			super(null, null, new SimpleMeterRegistry(), 100, 30);
+		}
+
+		@Override
+		EmployeeTaskStats load(Integer empId) {
+			EmployeeTaskStats loaded = nextLoad;
+			nextLoad = new EmployeeTaskStats();
+			duringLoad.run();
+			duringLoad = () -> { };
+			return loaded;
+		}
+	}
+}
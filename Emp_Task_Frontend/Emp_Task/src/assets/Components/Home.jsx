@@ -5,9 +5,17 @@ import AddNewTask from './AddNewTask';
 import Pending from './Pending';
 import Completed from './Completed';
 import StartDate from './StartDate';
+import { subscribeToTasks, applyTaskDelta } from './taskStream';
+
+const API = 'http://localhost:8080';
+
+// first page of every status comes with the dashboard; "Load more" continues each one
+const byId = (a, b) => a.id - b.id;
 
 const Home = () => {
   const [tasks, setTasks] = useState([]);
+  const [counts, setCounts] = useState(null);
+  const [cursors, setCursors] = useState({});
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState('');
   const [editingTask, setEditingTask] = useState(null);
@@ -16,10 +24,22 @@ const Home = () => {
   const location = useLocation();
 
   useEffect(() => {
-    fetchAllTasks();
+    fetchDashboard();
+    // patch the list from live changes instead of re-downloading it; the counts
+    // come from the stats aggregate, which a loaded page can't stand in for
+    return subscribeToTasks(delta => {
+      setTasks(prev => applyTaskDelta(prev, delta));
+      fetchCounts();
+    });
   }, []);
 
-  const fetchAllTasks = async () => {
+  const authHeaders = () => ({
+    'Authorization': `Bearer ${localStorage.getItem('token')}`,
+    'Content-Type': 'application/json'
+  });
+
+  // profile, counts and the first page of each status in one request
+  const fetchDashboard = async () => {
     try {
       const employeeId = localStorage.getItem('employeeId');
       const token = localStorage.getItem('token');
@@ -27,19 +47,17 @@ const Home = () => {
         throw new Error('No employee ID or token found. Please sign in again.');
       }
 
-      const response = await fetch(`http://localhost:8080/tasks/employee/${employeeId}`, {
-        headers: {
-          'Authorization': `Bearer ${token}`,
-          'Content-Type': 'application/json'
-        }
-      });
+      const response = await fetch(`${API}/tasks/dashboard/${employeeId}`, { headers: authHeaders() });
 
       if (!response.ok) {
-        throw new Error('Failed to fetch tasks');
+        throw new Error('Failed to fetch dashboard');
       }
 
-      const tasksData = await response.json();
-      setTasks(tasksData);
+      const dashboard = await response.json();
+      const slices = Object.entries(dashboard.tasks);
+      setTasks(slices.flatMap(([, page]) => page.items).sort(byId));
+      setCursors(Object.fromEntries(slices.map(([status, page]) => [status, page.nextCursor])));
+      setCounts(dashboard.counts);
     } catch (err) {
       setError(err.message);
     } finally {
@@ -47,6 +65,45 @@ const Home = () => {
     }
   };
 
+  const fetchCounts = async () => {
+    try {
+      const employeeId = localStorage.getItem('employeeId');
+      const response = await fetch(`${API}/tasks/stats/${employeeId}`, { headers: authHeaders() });
+      if (response.ok) {
+        setCounts(await response.json());
+      }
+    } catch (err) {
+      // the next change or refresh brings them up to date
+    }
+  };
+
+  // next page of every status that has one
+  const loadMore = async () => {
+    try {
+      const employeeId = localStorage.getItem('employeeId');
+      const pending = Object.entries(cursors).filter(([, cursor]) => cursor != null);
+      const pages = await Promise.all(pending.map(async ([status, cursor]) => {
+        const params = new URLSearchParams({ status, cursor });
+        const response = await fetch(`${API}/tasks/employee/${employeeId}/page?${params}`, { headers: authHeaders() });
+        if (!response.ok) {
+          throw new Error('Failed to fetch more tasks');
+        }
+        return [status, await response.json()];
+      }));
+
+      setTasks(prev => {
+        const loaded = new Set(prev.map(task => task.id));
+        const more = pages.flatMap(([, page]) => page.items).filter(task => !loaded.has(task.id));
+        return [...prev, ...more].sort(byId);
+      });
+      setCursors(prev => ({ ...prev, ...Object.fromEntries(pages.map(([status, page]) => [status, page.nextCursor])) }));
+    } catch (err) {
+      setError(err.message);
+    }
+  };
+
+  const hasMore = Object.values(cursors).some(cursor => cursor != null);
+
   const handleLogout = () => {
     localStorage.removeItem('token');
     localStorage.removeItem('employeeId');
@@ -71,20 +128,24 @@ const Home = () => {
   const updateTaskStatus = async (taskId, newStatus) => {
     try {
       const token = localStorage.getItem('token');
-      const response = await fetch(`http://localhost:8080/tasks/${taskId}`, {
-        method: 'PUT',
+      const currentTask = tasks.find(t => t.id === taskId);
+      const response = await fetch(`http://localhost:8080/tasks/${taskId}/status`, {
+        method: 'PATCH',
         headers: {
           'Authorization': `Bearer ${token}`,
           'Content-Type': 'application/json'
         },
-        body: JSON.stringify({ status: newStatus })
+        body: JSON.stringify({ status: newStatus, version: currentTask?.version })
       });
 
+      if (response.status === 409) {
+        fetchDashboard();
+        throw new Error('This task was changed elsewhere. The list has been refreshed, please try again.');
+      }
       if (!response.ok) {
         throw new Error('Failed to update task status');
       }
-
-      fetchAllTasks(); // Refresh tasks
+      // the change arrives on the task stream
     } catch (err) {
       setError(err.message);
     }
@@ -112,9 +173,10 @@ const Home = () => {
         throw new Error('Failed to update task');
       }
 
+      const saved = await response.json();
+      setTasks(prev => applyTaskDelta(prev, { taskId: saved.id, task: saved }));
       setShowEditModal(false);
       setEditingTask(null);
-      fetchAllTasks(); // Refresh tasks
     } catch (err) {
       setError(err.message);
     }
@@ -140,23 +202,18 @@ const Home = () => {
           throw new Error('Failed to delete task');
         }
 
-        fetchAllTasks(); // Refresh tasks
+        setTasks(prev => prev.filter(t => t.id !== taskId));
       } catch (err) {
         setError(err.message);
       }
     }
   };
 
-  // Stats calculation
-  const totalTasks = tasks.length;
-  const pendingTasks = tasks.filter(task => task.status === 'PENDING').length;
-  const completedTasks = tasks.filter(task => task.status === 'COMPLETED').length;
-  const today = new Date().toDateString();
-  const todayTasks = tasks.filter(task => {
-    const startDate = new Date(task.startDateTime).toDateString();
-    const endDate = new Date(task.endDateTime).toDateString();
-    return startDate === today || endDate === today;
-  }).length;
+  // Stats from the server-side aggregate: the list only holds the pages loaded so far
+  const totalTasks = counts ? counts.total : 0;
+  const pendingTasks = counts?.countsByStatus?.PENDING ?? 0;
+  const completedTasks = counts?.countsByStatus?.COMPLETED ?? 0;
+  const overdueTasks = counts ? counts.overdue : 0;
 
   if (location.pathname !== '/home') {
     return (
@@ -253,8 +310,8 @@ const Home = () => {
                 <div className="w-6 h-6 bg-gray-400 rounded"></div>
               </div>
               <div className="ml-4">
-                <p className="text-sm font-medium text-gray-600">Today Tasks</p>
-                <p className="text-2xl font-bold text-gray-800">{todayTasks}</p>
+                <p className="text-sm font-medium text-gray-600">Overdue</p>
+                <p className="text-2xl font-bold text-gray-800">{overdueTasks}</p>
               </div>
             </div>
           </div>
@@ -311,7 +368,7 @@ const Home = () => {
           <div className="flex justify-between items-center mb-6">
             <h2 className="text-xl font-semibold text-gray-800">All Tasks</h2>
             <button
-              onClick={fetchAllTasks}
+              onClick={fetchDashboard}
               className="px-4 py-2 text-sm bg-gray-700 text-white rounded-md hover:bg-gray-800 transition duration-200"
             >
               Refresh
@@ -365,6 +422,17 @@ const Home = () => {
               ))}
             </div>
           )}
+
+          {hasMore && (
+            <div className="text-center mt-6">
+              <button
+                onClick={loadMore}
+                className="px-4 py-2 text-sm bg-gray-700 text-white rounded-md hover:bg-gray-800 transition duration-200"
+              >
+                Load More
+              </button>
+            </div>
+          )}
         </div>
       </div>
 
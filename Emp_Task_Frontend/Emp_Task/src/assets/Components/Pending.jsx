@@ -1,5 +1,6 @@
 import React, { useState, useEffect } from 'react';
 import { Link } from 'react-router-dom';
+import { subscribeToTasks, applyTaskDelta } from './taskStream';
 
 const Pending = () => {
   const [tasks, setTasks] = useState([]);
@@ -8,6 +9,10 @@ const Pending = () => {
 
   useEffect(() => {
     fetchPendingTasks();
+    // patch the list from live changes instead of re-downloading it
+    return subscribeToTasks(delta =>
+      setTasks(prev => applyTaskDelta(prev, delta, task => task.status === 'PENDING'))
+    );
   }, []);
 
   const fetchPendingTasks = async () => {
@@ -58,43 +63,31 @@ const Pending = () => {
         throw new Error('No token found. Please sign in again.');
       }
 
-      // First, get the current task data
-      const getResponse = await fetch(`http://localhost:8080/tasks/employee/${localStorage.getItem('employeeId')}`, {
-        headers: {
-          'Authorization': `Bearer ${token}`,
-          'Content-Type': 'application/json'
-        }
-      });
-      if (!getResponse.ok) {
-        throw new Error('Failed to fetch task data');
-      }
-
-      const allTasks = await getResponse.json();
-      const currentTask = allTasks.find(task => task.id === taskId);
-
+      const currentTask = tasks.find(task => task.id === taskId);
       if (!currentTask) {
         throw new Error('Task not found');
       }
 
-      // Update the status
-      const updatedTask = { ...currentTask, status: newStatus };
-
-      // Send the full task object
-      const response = await fetch(`http://localhost:8080/tasks/update/${taskId}`, {
-        method: 'PUT',
+      // Conditional status change - only succeeds if nobody changed the task since we loaded it
+      const response = await fetch(`http://localhost:8080/tasks/${taskId}/status`, {
+        method: 'PATCH',
         headers: {
           'Authorization': `Bearer ${token}`,
           'Content-Type': 'application/json',
         },
-        body: JSON.stringify(updatedTask)
+        body: JSON.stringify({ status: newStatus, version: currentTask.version })
       });
 
+      if (response.status === 409) {
+        fetchPendingTasks();
+        throw new Error('This task was changed elsewhere. The list has been refreshed, please try again.');
+      }
       if (!response.ok) {
         throw new Error('Failed to update task status');
       }
 
-      // Refresh the tasks list
-      fetchPendingTasks();
+      // The task is no longer pending, drop it from the list
+      setTasks(prev => prev.filter(task => task.id !== taskId));
     } catch (err) {
       setError(err.message);
     }
@@ -122,8 +115,7 @@ const Pending = () => {
         throw new Error('Failed to delete task');
       }
 
-      // Refresh the tasks list
-      fetchPendingTasks();
+      setTasks(prev => prev.filter(task => task.id !== taskId));
     } catch (err) {
       setError(err.message);
     }
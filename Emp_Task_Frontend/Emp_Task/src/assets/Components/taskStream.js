@@ -0,0 +1,64 @@
+// Live task changes from GET /tasks/stream/{employeeId} (server-sent events).
+// Read with fetch instead of EventSource so the Authorization header can be sent.
+const STREAM_URL = 'http://localhost:8080/tasks/stream';
+const RETRY_MS = 3000;
+
+export const subscribeToTasks = (onDelta) => {
+  const employeeId = localStorage.getItem('employeeId');
+  const token = localStorage.getItem('token');
+  if (!employeeId || !token) {
+    return () => {};
+  }
+
+  const controller = new AbortController();
+
+  const connect = async () => {
+    try {
+      const response = await fetch(`${STREAM_URL}/${employeeId}`, {
+        headers: { 'Authorization': `Bearer ${token}`, 'Accept': 'text/event-stream' },
+        signal: controller.signal
+      });
+      if (!response.ok || !response.body) {
+        throw new Error(`Task stream failed: ${response.status}`);
+      }
+
+      const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+      let buffer = '';
+      for (;;) {
+        const { value, done } = await reader.read();
+        if (done) break;
+        buffer += value;
+
+        // events are separated by a blank line; comments (":ping") carry no data
+        let end;
+        while ((end = buffer.indexOf('\n\n')) >= 0) {
+          const data = buffer.slice(0, end).split('\n')
+            .filter(line => line.startsWith('data:'))
+            .map(line => line.slice(5).trim())
+            .join('\n');
+          buffer = buffer.slice(end + 2);
+          if (data) onDelta(JSON.parse(data));
+        }
+      }
+    } catch (err) {
+      if (controller.signal.aborted) return;
+    }
+    // server timeout or network drop - reconnect
+    if (!controller.signal.aborted) {
+      setTimeout(connect, RETRY_MS);
+    }
+  };
+
+  connect();
+  return () => controller.abort();
+};
+
+// Applies one delta to a task list: the task is removed, then put back (in id order)
+// if it still exists and belongs in this list.
+export const applyTaskDelta = (tasks, delta, belongs = () => true) => {
+  const rest = tasks.filter(task => task.id !== delta.taskId);
+  if (!delta.task || !belongs(delta.task)) {
+    return rest;
+  }
+  return [...rest, delta.task].sort((a, b) => a.id - b.id);
+};